@@ -10,4 +10,12 @@ public record AppointmentReminderEvent(
     String hour,
     String message,
     Instant createdAt
-) {}
\ No newline at end of file
+) {
+
+    public static AppointmentReminderEvent of(String appointmentId, String patientId, String professionalId,
+            String date, String hour) {
+        String message = String.format("Lembrete: Seu atendimento é amanhã às %s", hour);
+        return new AppointmentReminderEvent(
+                appointmentId, patientId, professionalId, date, hour, message, Instant.now());
+    }
+}
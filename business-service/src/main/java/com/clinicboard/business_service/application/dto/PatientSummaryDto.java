@@ -0,0 +1,20 @@
+package com.clinicboard.business_service.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Projeção enxuta do paciente para o autocompletar da recepção.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientSummaryDto {
+    private String id;
+    private String name;
+    private Integer age;
+    private String phone;
+}
@@ -2,6 +2,8 @@ package com.clinicboard.business_service.application.port.in;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import com.clinicboard.business_service.application.dto.AppointmentRequestDto;
 import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
@@ -9,13 +11,21 @@ import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
 public interface AppointmentUseCasesPort {
      AppointmentResponseDto create(AppointmentRequestDto patient);
 
-    List<AppointmentResponseDto> findAll();
+    List<AppointmentResponseDto> findAll(String after, int limit);
+
+    void streamAll(Consumer<AppointmentResponseDto> consumer);
 
     AppointmentResponseDto update(String id, AppointmentRequestDto scheduling);
 
     void delete(String id);
 
+    void deleteAppointments(String userId, LocalDate date);
+
     List<AppointmentResponseDto> findAppointments(String userId, LocalDate date);
 
+    String appointmentsVersion(String userId, LocalDate date);
+
     List<String> findAvailableHours(LocalDate date, String userId);
+
+    Map<LocalDate, List<String>> findAvailableHours(String userId, LocalDate from, LocalDate to);
 }
@@ -1,18 +1,24 @@
 package com.clinicboard.business_service.application.port.in;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.clinicboard.business_service.application.dto.PatientRequestDto;
 import com.clinicboard.business_service.application.dto.PatientResponseDto;
+import com.clinicboard.business_service.application.dto.PatientSummaryDto;
 
 public interface PatientUseCasesPort {
     PatientResponseDto create(PatientRequestDto patient);
 
-    List<PatientResponseDto> findAll();
+    List<PatientResponseDto> findAll(String after, int limit);
+
+    void streamAll(Consumer<PatientResponseDto> consumer);
 
     List<PatientResponseDto> findByUserId(String id);
 
-    List<PatientResponseDto> findPatientByName(String name);
+    String patientsVersion(String userId);
+
+    List<PatientSummaryDto> findPatientByName(String userId, String name, int limit);
 
     PatientResponseDto update(String id, PatientRequestDto patient);
 
@@ -0,0 +1,23 @@
+package com.clinicboard.business_service.application.port.out;
+
+import java.time.LocalDate;
+
+/**
+ * Porta de saída para consulta de ocupação da agenda.
+ *
+ * Responde às verificações de conflito de agendamento. As implementações
+ * podem resolver a consulta em memória, desde que o banco continue sendo a
+ * garantia final de unicidade.
+ */
+public interface AppointmentOccupancyPort {
+
+    /**
+     * Verifica se o profissional já possui agendamento na data e hora informadas.
+     */
+    boolean isSlotOccupied(String professionalId, LocalDate date, String hour);
+
+    /**
+     * Verifica se o paciente já possui agendamento na data informada.
+     */
+    boolean hasPatientAppointmentOn(String patientId, LocalDate date);
+}
@@ -1,25 +1,51 @@
 package com.clinicboard.business_service.application.port.out;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.clinicboard.business_service.application.dto.AppointmentRequestDto;
 import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
-import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentRepository;
 
 import java.time.LocalDate;
 
 public interface AppointmentPersistencePort {
     AppointmentResponseDto create(AppointmentRequestDto appointment);
 
-    List<AppointmentResponseDto> findAll();
+    List<AppointmentResponseDto> findAll(String after, int limit);
+
+    void streamAll(Consumer<AppointmentResponseDto> consumer);
+
+    Optional<AppointmentResponseDto> findById(String id);
 
     AppointmentResponseDto update(String id, AppointmentRequestDto appointment);
 
     void delete(String id);
 
+    /**
+     * Exclui todos os agendamentos do profissional no dia.
+     *
+     * @return os agendamentos excluídos
+     */
+    List<AppointmentResponseDto> deleteAppointments(String userId, LocalDate date);
+
+    /**
+     * Exclui todos os agendamentos do paciente (antes da exclusão do próprio
+     * paciente, que os removeria em cascata sem liberar índice e lembretes).
+     *
+     * @return os agendamentos excluídos
+     */
+    List<AppointmentResponseDto> deletePatientAppointments(String patientId);
+
     List<AppointmentResponseDto> findAppointments(String userId, LocalDate date);
 
+    /**
+     * ETag da agenda do profissional no dia, derivado do seu conteúdo (o mesmo em todas as réplicas).
+     */
+    String appointmentsVersion(String userId, LocalDate date);
+
     List<String> findAvailableHours(LocalDate date, String userId);
 
-    AppointmentRepository getAppointmentRepository();
+    Map<LocalDate, List<String>> findAvailableHours(String userId, LocalDate from, LocalDate to);
 }
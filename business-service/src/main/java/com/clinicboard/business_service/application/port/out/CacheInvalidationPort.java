@@ -0,0 +1,16 @@
+package com.clinicboard.business_service.application.port.out;
+
+import java.time.LocalDate;
+
+/**
+ * Invalidação dos dados derivados em memória (agendas do dia em cache e
+ * versões usadas nos ETags) após uma escrita, nesta e nas demais réplicas.
+ */
+public interface CacheInvalidationPort {
+
+    void appointmentsChanged(String userId, LocalDate date);
+
+    void allAppointmentsChanged(String userId);
+
+    void patientsChanged(String userId);
+}
@@ -1,7 +1,12 @@
 package com.clinicboard.business_service.application.port.out;
 
+import java.util.List;
+
 import com.clinicboard.business_service.application.dto.AppointmentReminderEvent;
+import com.clinicboard.business_service.domain.event.AppointmentCanceledEvent;
+import com.clinicboard.business_service.domain.event.AppointmentRescheduledEvent;
 import com.clinicboard.business_service.domain.event.AppointmentScheduledEvent;
+import com.clinicboard.business_service.domain.event.PatientChangedEvent;
 
 /**
  * Gateway para publicação de eventos de negócio.
@@ -20,4 +25,30 @@ public interface EventPublisherGateway {
 
     void publishAppointmentReminderNotification(AppointmentReminderEvent event);
 
+    /**
+     * Publica um lote de lembretes e devolve os ids dos agendamentos cujos
+     * lembretes foram confirmados pelo broker. Os demais não são enviados à
+     * DLQ: quem chamou decide se tenta novamente.
+     */
+    List<String> publishAppointmentReminderNotifications(List<AppointmentReminderEvent> events);
+
+    /**
+     * Publica a remarcação de um agendamento. Usado por consumidores que
+     * mantêm dados derivados da agenda (ex.: cache de respostas do Gateway);
+     * falhas não interrompem a operação.
+     */
+    void publishAppointmentRescheduled(AppointmentRescheduledEvent event);
+
+    /**
+     * Publica o cancelamento (exclusão) de um agendamento. Falhas não
+     * interrompem a operação.
+     */
+    void publishAppointmentCanceled(AppointmentCanceledEvent event);
+
+    /**
+     * Publica a criação, alteração ou exclusão de um paciente. Falhas não
+     * interrompem a operação.
+     */
+    void publishPatientChanged(PatientChangedEvent event);
+
 }
@@ -1,9 +1,12 @@
 package com.clinicboard.business_service.application.port.out;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.clinicboard.business_service.application.dto.PatientRequestDto;
 import com.clinicboard.business_service.application.dto.PatientResponseDto;
+import com.clinicboard.business_service.application.dto.PatientSummaryDto;
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.PatientRepository;
 
 
@@ -11,11 +14,18 @@ public interface PatientPersistencePort {
 
     PatientResponseDto create(PatientRequestDto patient);
     
-    List<PatientResponseDto> findAll();
+    List<PatientResponseDto> findAll(String after, int limit);
+
+    void streamAll(Consumer<PatientResponseDto> consumer);
 
     List<PatientResponseDto> findByUserId(String id);
 
-    List<PatientResponseDto> findPatientByName(String name);
+    /**
+     * ETag da lista de pacientes do profissional, derivado do seu conteúdo (o mesmo em todas as réplicas).
+     */
+    String patientsVersion(String userId);
+
+    List<PatientSummaryDto> findPatientByName(String userId, String name, int limit);
 
     PatientResponseDto update(String id, PatientRequestDto patient);
 
@@ -23,5 +33,7 @@ public interface PatientPersistencePort {
 
     PatientResponseDto findOne(String id);
 
+    Optional<PatientResponseDto> findById(String id);
+
     PatientRepository getPatientRepository();
 }
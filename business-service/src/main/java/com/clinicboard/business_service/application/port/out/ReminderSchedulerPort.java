@@ -0,0 +1,40 @@
+package com.clinicboard.business_service.application.port.out;
+
+import java.util.Collection;
+
+import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
+
+/**
+ * Lembretes de atendimento, enviados 24 horas antes do horário agendado.
+ *
+ * O mecanismo é escolhido por app.reminders.engine:
+ * - quartz (padrão): um job por agendamento
+ * - sweeper: um único job recorrente que varre a tabela appointments
+ * - wheel: timing wheel em memória para as próximas 48 horas
+ */
+public interface ReminderSchedulerPort {
+
+    void scheduleReminder(AppointmentResponseDto appointment);
+
+    /**
+     * Chamado quando muda algum dado do lembrete (data, horário, paciente ou
+     * profissional). Por padrão não faz nada (motores que leem a tabela
+     * appointments no disparo).
+     */
+    default void rescheduleReminder(AppointmentResponseDto appointment) {
+    }
+
+    /**
+     * Chamado após a exclusão do agendamento. Por padrão não faz nada.
+     */
+    default void cancelReminder(String appointmentId) {
+    }
+
+    /**
+     * Cancelamento em lote (ex.: o profissional cancela o dia inteiro). Os
+     * motores com operação em lote sobrescrevem este método.
+     */
+    default void cancelReminders(Collection<String> appointmentIds) {
+        appointmentIds.forEach(this::cancelReminder);
+    }
+}
@@ -2,81 +2,116 @@ package com.clinicboard.business_service.application.usecase;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 
-import org.quartz.SchedulerException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
 import com.clinicboard.business_service.application.dto.AppointmentRequestDto;
 import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
 import com.clinicboard.business_service.application.port.in.AppointmentUseCasesPort;
 import com.clinicboard.business_service.application.port.out.AppointmentPersistencePort;
+import com.clinicboard.business_service.application.port.out.CacheInvalidationPort;
 import com.clinicboard.business_service.application.port.out.EventPublisherGateway;
+import com.clinicboard.business_service.application.port.out.ReminderSchedulerPort;
+import com.clinicboard.business_service.domain.event.AppointmentCanceledEvent;
+import com.clinicboard.business_service.domain.event.AppointmentRescheduledEvent;
 import com.clinicboard.business_service.domain.event.AppointmentScheduledEvent;
 import com.clinicboard.business_service.domain.service.AppointmentSchedulingService;
-import com.clinicboard.business_service.infrastructure.adapter.out.quartz.AppointmentReminderScheduler;
 
 @Slf4j
 @Service
 public class AppointmentUseCases implements AppointmentUseCasesPort {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final AppointmentPersistencePort appointmentPersistencePort;
     private final EventPublisherGateway eventPublisher;
-    private final AppointmentReminderScheduler appointmentReminderScheduler;
+    private final ReminderSchedulerPort reminderScheduler;
     private final AppointmentSchedulingService appointmentSchedulingService;
+    private final CacheInvalidationPort cacheInvalidation;
 
     public AppointmentUseCases(AppointmentPersistencePort appointmentPersistencePort,
-            EventPublisherGateway eventPublisher, AppointmentReminderScheduler appointmentReminderScheduler,
-            AppointmentSchedulingService appointmentSchedulingService) {
+            EventPublisherGateway eventPublisher, ReminderSchedulerPort reminderScheduler,
+            AppointmentSchedulingService appointmentSchedulingService, CacheInvalidationPort cacheInvalidation) {
         this.appointmentPersistencePort = appointmentPersistencePort;
         this.eventPublisher = eventPublisher;
-        this.appointmentReminderScheduler = appointmentReminderScheduler;
+        this.reminderScheduler = reminderScheduler;
         this.appointmentSchedulingService = appointmentSchedulingService;
+        this.cacheInvalidation = cacheInvalidation;
     }
 
+    /**
+     * Agendamento e evento (outbox) são gravados na mesma transação: o evento
+     * só existe se o agendamento for confirmado, sem depender do broker.
+     */
     @Override
+    @Transactional
     public AppointmentResponseDto create(AppointmentRequestDto appointment) {
         appointmentSchedulingService.checkPatientHasNoSchedulingOnSameDate(appointment.getPatient_id(),
                 appointment.getDate());
-        appointmentSchedulingService.checkNoSchedulingOnSameDateTime(appointment.getDate(), appointment.getHour());
+        appointmentSchedulingService.checkNoSchedulingOnSameDateTime(appointment.getUser_id(), appointment.getDate(),
+                appointment.getHour());
         AppointmentResponseDto appointmentResponse = appointmentPersistencePort.create(appointment);
+        invalidateDay(appointmentResponse);
         publishAppointmentScheduledEvent(appointmentResponse);
-        try {
-            appointmentReminderScheduler.scheduleReminder(appointmentResponse);
-        } catch (SchedulerException e) {
-            throw new RuntimeException("Falha ao agendar lembrete Quartz: " + e.getMessage(), e);
-        }
+        reminderScheduler.scheduleReminder(appointmentResponse);
         return appointmentResponse;
     }
 
     @Override
-    public List<AppointmentResponseDto> findAll() {
-        return appointmentPersistencePort.findAll();
+    public List<AppointmentResponseDto> findAll(String after, int limit) {
+        return appointmentPersistencePort.findAll(after, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    @Override
+    public void streamAll(Consumer<AppointmentResponseDto> consumer) {
+        appointmentPersistencePort.streamAll(consumer);
     }
 
     @Override
     public AppointmentResponseDto update(String id, AppointmentRequestDto appointment) {
-        appointmentSchedulingService.checkNoSchedulingOnSameDateTime(appointment.getDate(), appointment.getHour());
+        appointmentSchedulingService.checkNoSchedulingOnSameDateTime(appointment.getUser_id(), appointment.getDate(),
+                appointment.getHour());
         appointmentSchedulingService.validateTypeUpdateScheduling(appointment.getType());
-        // TODO: Implementar o findById para buscar o agendamento antigo
-        // // ✅ Buscar agendamento antigo para auditoria
-        // AppointmentResponseDto oldAppointment = appointmentPersistencePort.findById(id)
-        //     .orElseThrow(() -> new BusinessException("Agendamento não encontrado"));
-        
-        // AppointmentResponseDto updatedAppointment = appointmentPersistencePort.update(id, appointment);
-        // return updatedAppointment;
-        return appointmentPersistencePort.update(id, appointment);
+        Optional<AppointmentResponseDto> previousAppointment = appointmentPersistencePort.findById(id);
+        AppointmentResponseDto updatedAppointment = appointmentPersistencePort.update(id, appointment);
+        previousAppointment.ifPresent(this::invalidateDay);
+        invalidateDay(updatedAppointment);
+        if (previousAppointment.map(previous -> !sameReminder(previous, updatedAppointment)).orElse(true)) {
+            reminderScheduler.rescheduleReminder(updatedAppointment);
+        }
+        publishAppointmentRescheduledEvent(previousAppointment.orElse(null), updatedAppointment);
+        return updatedAppointment;
     }
 
     @Override
     public void delete(String id) {
+        // Busca antes de excluir para informar o profissional no evento de cancelamento
+        Optional<AppointmentResponseDto> appointment = appointmentPersistencePort.findById(id);
         appointmentPersistencePort.delete(id);
-        // TODO: Implementar auditoria de exclusão
-        // ✅ Buscar agendamento antes de deletar para auditoria
-        // AppointmentResponseDto appointment = appointmentPersistencePort.findById(id)
-        //     .orElseThrow(() -> new BusinessException("Agendamento não encontrado"));
-        
-        // appointmentPersistencePort.delete(id);
+        reminderScheduler.cancelReminder(id);
+        appointment.ifPresent(this::invalidateDay);
+        appointment.ifPresent(this::publishAppointmentCanceledEvent);
+    }
+
+    /**
+     * Cancela o dia inteiro do profissional: uma exclusão e um cancelamento de
+     * lembretes em lote, e um evento de cancelamento por agendamento.
+     */
+    @Override
+    public void deleteAppointments(String userId, LocalDate date) {
+        List<AppointmentResponseDto> appointments = appointmentPersistencePort.deleteAppointments(userId, date);
+        if (appointments.isEmpty()) {
+            return;
+        }
+        reminderScheduler.cancelReminders(appointments.stream().map(AppointmentResponseDto::getId).toList());
+        cacheInvalidation.appointmentsChanged(userId, date);
+        appointments.forEach(this::publishAppointmentCanceledEvent);
     }
 
     @Override
@@ -84,11 +119,34 @@ public class AppointmentUseCases implements AppointmentUseCasesPort {
         return appointmentPersistencePort.findAppointments(userId, date);
     }
 
+    @Override
+    public String appointmentsVersion(String userId, LocalDate date) {
+        return appointmentPersistencePort.appointmentsVersion(userId, date);
+    }
+
     @Override
     public List<String> findAvailableHours(LocalDate date, String userId) {
         return appointmentPersistencePort.findAvailableHours(date, userId);
     }
 
+    @Override
+    public Map<LocalDate, List<String>> findAvailableHours(String userId, LocalDate from, LocalDate to) {
+        appointmentSchedulingService.validateAvailabilityRange(from, to);
+        return appointmentPersistencePort.findAvailableHours(userId, from, to);
+    }
+
+    // Mesmos dados que o lembrete carrega (horário, paciente e profissional)
+    private static boolean sameReminder(AppointmentResponseDto previous, AppointmentResponseDto updated) {
+        return Objects.equals(previous.getDate(), updated.getDate())
+                && Objects.equals(previous.getHour(), updated.getHour())
+                && Objects.equals(previous.getPatient_id(), updated.getPatient_id())
+                && Objects.equals(previous.getUser_id(), updated.getUser_id());
+    }
+
+    private void invalidateDay(AppointmentResponseDto appointment) {
+        cacheInvalidation.appointmentsChanged(appointment.getUser_id(), appointment.getDate());
+    }
+
     private void publishAppointmentScheduledEvent(AppointmentResponseDto appointment) {
         try {
             var event = AppointmentScheduledEvent.from(
@@ -104,4 +162,24 @@ public class AppointmentUseCases implements AppointmentUseCasesPort {
                     "Falha ao publicar evento de agendamento: " + e.getMessage(), e);
         }
     }
+
+    private void publishAppointmentRescheduledEvent(AppointmentResponseDto previous, AppointmentResponseDto updated) {
+        eventPublisher.publishAppointmentRescheduled(AppointmentRescheduledEvent.from(
+                updated.getId(),
+                updated.getPatient_id(),
+                updated.getUser_id(),
+                previous != null && previous.getDate() != null ? previous.getDate().toString() : null,
+                previous != null ? previous.getHour() : null,
+                updated.getDate() != null ? updated.getDate().toString() : null,
+                updated.getHour()));
+    }
+
+    private void publishAppointmentCanceledEvent(AppointmentResponseDto appointment) {
+        eventPublisher.publishAppointmentCanceled(AppointmentCanceledEvent.from(
+                appointment.getId(),
+                appointment.getPatient_id(),
+                appointment.getUser_id(),
+                appointment.getDate() != null ? appointment.getDate().toString() : null,
+                appointment.getHour()));
+    }
 }
@@ -1,31 +1,62 @@
 package com.clinicboard.business_service.application.usecase;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
 import com.clinicboard.business_service.application.dto.PatientRequestDto;
 import com.clinicboard.business_service.application.dto.PatientResponseDto;
+import com.clinicboard.business_service.application.dto.PatientSummaryDto;
 import com.clinicboard.business_service.application.port.in.PatientUseCasesPort;
+import com.clinicboard.business_service.application.port.out.AppointmentPersistencePort;
+import com.clinicboard.business_service.application.port.out.CacheInvalidationPort;
+import com.clinicboard.business_service.application.port.out.EventPublisherGateway;
 import com.clinicboard.business_service.application.port.out.PatientPersistencePort;
+import com.clinicboard.business_service.application.port.out.ReminderSchedulerPort;
+import com.clinicboard.business_service.domain.event.PatientChangedEvent;
 
 @Service
 public class PatientUseCases implements PatientUseCasesPort {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_SEARCH_RESULTS = 50;
+
     private final PatientPersistencePort patientPersistencePort;
+    private final EventPublisherGateway eventPublisher;
+    private final CacheInvalidationPort cacheInvalidation;
+    private final AppointmentPersistencePort appointmentPersistencePort;
+    private final ReminderSchedulerPort reminderScheduler;
 
-    public PatientUseCases(PatientPersistencePort patientPersistencePort) {
+    public PatientUseCases(PatientPersistencePort patientPersistencePort, EventPublisherGateway eventPublisher,
+            CacheInvalidationPort cacheInvalidation, AppointmentPersistencePort appointmentPersistencePort,
+            ReminderSchedulerPort reminderScheduler) {
         this.patientPersistencePort = patientPersistencePort;
+        this.eventPublisher = eventPublisher;
+        this.cacheInvalidation = cacheInvalidation;
+        this.appointmentPersistencePort = appointmentPersistencePort;
+        this.reminderScheduler = reminderScheduler;
     }
 
     @Override
     public PatientResponseDto create(PatientRequestDto patient) {
-        return patientPersistencePort.create(patient);
+        PatientResponseDto created = patientPersistencePort.create(patient);
+        cacheInvalidation.patientsChanged(created.getUser_id());
+        publishPatientChangedEvent(created, PatientChangedEvent.ChangeType.CREATED);
+        return created;
     }
 
     @Override
-    public List<PatientResponseDto> findAll() {
-        return patientPersistencePort.findAll();
+    public List<PatientResponseDto> findAll(String after, int limit) {
+        return patientPersistencePort.findAll(after, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    @Override
+    public void streamAll(Consumer<PatientResponseDto> consumer) {
+        patientPersistencePort.streamAll(consumer);
     }
 
     @Override
@@ -33,19 +64,51 @@ public class PatientUseCases implements PatientUseCasesPort {
         return patientPersistencePort.findByUserId(id);
     }
 
+    @Override
+    public String patientsVersion(String userId) {
+        return patientPersistencePort.patientsVersion(userId);
+    }
+
     @Override
     public PatientResponseDto update(String id, PatientRequestDto patient) {
-        return patientPersistencePort.update(id, patient);
+        // Busca antes de alterar: o paciente pode mudar de profissional
+        Optional<PatientResponseDto> previous = patientPersistencePort.findById(id);
+        PatientResponseDto updated = patientPersistencePort.update(id, patient);
+        cacheInvalidation.patientsChanged(updated.getUser_id());
+        publishPatientChangedEvent(updated, PatientChangedEvent.ChangeType.UPDATED);
+        previous.filter(old -> old.getUser_id() != null && !old.getUser_id().equals(updated.getUser_id()))
+                .ifPresent(old -> {
+                    cacheInvalidation.patientsChanged(old.getUser_id());
+                    publishPatientChangedEvent(old, PatientChangedEvent.ChangeType.UPDATED);
+                });
+        return updated;
     }
 
+    /**
+     * Os agendamentos do paciente são excluídos antes, em lote, para liberar o
+     * índice de ocupação e cancelar os lembretes; a cascata do paciente não
+     * faria nenhum dos dois.
+     */
     @Override
+    @Transactional
     public void delete(String id) {
+        // Busca antes de excluir para informar o profissional no evento
+        Optional<PatientResponseDto> patient = patientPersistencePort.findById(id);
+        List<AppointmentResponseDto> appointments = appointmentPersistencePort.deletePatientAppointments(id);
         patientPersistencePort.delete(id);
+        if (!appointments.isEmpty()) {
+            reminderScheduler.cancelReminders(appointments.stream().map(AppointmentResponseDto::getId).toList());
+        }
+        patient.ifPresent(deleted -> {
+            cacheInvalidation.patientsChanged(deleted.getUser_id());
+            cacheInvalidation.allAppointmentsChanged(deleted.getUser_id());
+            publishPatientChangedEvent(deleted, PatientChangedEvent.ChangeType.DELETED);
+        });
     }
 
     @Override
-    public List<PatientResponseDto> findPatientByName(String name) {
-        return patientPersistencePort.findPatientByName(name);
+    public List<PatientSummaryDto> findPatientByName(String userId, String name, int limit) {
+        return patientPersistencePort.findPatientByName(userId, name, Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS)));
     }
 
     @Override
@@ -53,4 +116,11 @@ public class PatientUseCases implements PatientUseCasesPort {
         return patientPersistencePort.findOne(id);
     }
 
+    private void publishPatientChangedEvent(PatientResponseDto patient, PatientChangedEvent.ChangeType changeType) {
+        if (patient == null) {
+            return;
+        }
+        eventPublisher.publishPatientChanged(PatientChangedEvent.from(patient.getId(), patient.getUser_id(), changeType));
+    }
+
 }
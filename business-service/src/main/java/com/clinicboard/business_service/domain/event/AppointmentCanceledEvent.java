@@ -0,0 +1,36 @@
+package com.clinicboard.business_service.domain.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+/**
+ * Evento de domínio disparado quando um agendamento é excluído.
+ */
+public record AppointmentCanceledEvent(
+        @JsonProperty("aggregateId") String appointmentId,
+        @JsonProperty("patientId") String patientId,
+        @JsonProperty("professionalId") String professionalId,
+        @JsonProperty("date") String date,
+        @JsonProperty("hour") String hour,
+        @JsonProperty("createdAt") Instant createdAt) implements DomainEvent {
+
+    public static AppointmentCanceledEvent from(
+            String appointmentId,
+            String patientId,
+            String professionalId,
+            String date,
+            String hour) {
+        return new AppointmentCanceledEvent(appointmentId, patientId, professionalId, date, hour, Instant.now());
+    }
+
+    @Override
+    public String getAggregateId() {
+        return appointmentId;
+    }
+
+    @Override
+    public Instant occurredOn() {
+        return createdAt;
+    }
+}
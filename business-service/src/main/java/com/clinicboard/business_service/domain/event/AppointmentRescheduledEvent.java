@@ -0,0 +1,41 @@
+package com.clinicboard.business_service.domain.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+/**
+ * Evento de domínio disparado quando um agendamento é alterado (remarcação).
+ */
+public record AppointmentRescheduledEvent(
+        @JsonProperty("aggregateId") String appointmentId,
+        @JsonProperty("patientId") String patientId,
+        @JsonProperty("professionalId") String professionalId,
+        @JsonProperty("previousDate") String previousDate,
+        @JsonProperty("previousHour") String previousHour,
+        @JsonProperty("date") String date,
+        @JsonProperty("hour") String hour,
+        @JsonProperty("createdAt") Instant createdAt) implements DomainEvent {
+
+    public static AppointmentRescheduledEvent from(
+            String appointmentId,
+            String patientId,
+            String professionalId,
+            String previousDate,
+            String previousHour,
+            String date,
+            String hour) {
+        return new AppointmentRescheduledEvent(appointmentId, patientId, professionalId,
+                previousDate, previousHour, date, hour, Instant.now());
+    }
+
+    @Override
+    public String getAggregateId() {
+        return appointmentId;
+    }
+
+    @Override
+    public Instant occurredOn() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,34 @@
+package com.clinicboard.business_service.domain.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+/**
+ * Evento de domínio disparado quando um paciente é criado, alterado ou
+ * excluído.
+ */
+public record PatientChangedEvent(
+        @JsonProperty("aggregateId") String patientId,
+        @JsonProperty("professionalId") String professionalId,
+        @JsonProperty("changeType") ChangeType changeType,
+        @JsonProperty("createdAt") Instant createdAt) implements DomainEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static PatientChangedEvent from(String patientId, String professionalId, ChangeType changeType) {
+        return new PatientChangedEvent(patientId, professionalId, changeType, Instant.now());
+    }
+
+    @Override
+    public String getAggregateId() {
+        return patientId;
+    }
+
+    @Override
+    public Instant occurredOn() {
+        return createdAt;
+    }
+}
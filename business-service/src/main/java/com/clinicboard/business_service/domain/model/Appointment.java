@@ -1,5 +1,6 @@
 package com.clinicboard.business_service.domain.model;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
@@ -19,12 +20,17 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
-@Table(name = "appointments")
+@Table(name = "appointments", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_appointments_professional_slot", columnNames = { "professional_id", "date",
+                "hour" }),
+        @UniqueConstraint(name = "uk_appointments_patient_date", columnNames = { "patient_id", "date" })
+})
 @Getter
 @Setter
 @EqualsAndHashCode(of = "id")
@@ -51,6 +57,10 @@ public class Appointment {
     @JoinColumn(name = "patient_id", nullable = false)
     private Patient patient;
 
+    // Preenchido pelo sweeper de lembretes ao enviar o lembrete (idempotência)
+    @Column(name = "reminder_sent_at")
+    private Instant reminderSentAt;
+
     // Construtores
     public Appointment() {
     }
@@ -1,10 +1,11 @@
 package com.clinicboard.business_service.domain.service;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 import org.springframework.stereotype.Service;
 
-import com.clinicboard.business_service.application.port.out.AppointmentPersistencePort;
+import com.clinicboard.business_service.application.port.out.AppointmentOccupancyPort;
 import com.clinicboard.business_service.domain.exception.BusinessException;
 import com.clinicboard.business_service.domain.model.AppointmentType;
 
@@ -14,27 +15,39 @@ import com.clinicboard.business_service.domain.model.AppointmentType;
 @Service
 public class AppointmentSchedulingService {
 
-    private final AppointmentPersistencePort appointmentPersistencePort;
+    // Limite de dias por consulta de disponibilidade (visão mensal + folga)
+    private static final long MAX_AVAILABILITY_RANGE_DAYS = 62;
 
-    public AppointmentSchedulingService(AppointmentPersistencePort appointmentPersistencePort) {
-        this.appointmentPersistencePort = appointmentPersistencePort;
+    private final AppointmentOccupancyPort appointmentOccupancyPort;
+
+    public AppointmentSchedulingService(AppointmentOccupancyPort appointmentOccupancyPort) {
+        this.appointmentOccupancyPort = appointmentOccupancyPort;
     }
 
     public void checkPatientHasNoSchedulingOnSameDate(String patientId, LocalDate date) {
-        boolean exists = appointmentPersistencePort.getAppointmentRepository().existsByPatientIdAndDate(patientId,
-                date);
+        boolean exists = appointmentOccupancyPort.hasPatientAppointmentOn(patientId, date);
         if (exists) {
             throw new BusinessException("O paciente já possui um agendamento nesta data.");
         }
     }
 
-    public void checkNoSchedulingOnSameDateTime(LocalDate date, String hour) {
-        boolean exists = appointmentPersistencePort.getAppointmentRepository().existsByDateAndHour(date, hour);
+    public void checkNoSchedulingOnSameDateTime(String professionalId, LocalDate date, String hour) {
+        boolean exists = appointmentOccupancyPort.isSlotOccupied(professionalId, date, hour);
         if (exists) {
             throw new BusinessException("Já existe um agendamento para essa data e hora.");
         }
     }
 
+    public void validateAvailabilityRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BusinessException("A data final deve ser igual ou posterior à data inicial.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_AVAILABILITY_RANGE_DAYS) {
+            throw new BusinessException(
+                    "O intervalo de disponibilidade não pode exceder " + MAX_AVAILABILITY_RANGE_DAYS + " dias.");
+        }
+    }
+
     public void validateTypeUpdateScheduling(AppointmentType type) {
         if (type != AppointmentType.REMARCACAO) {
             throw new BusinessException("Tipo de agendamento inválido para atualização");
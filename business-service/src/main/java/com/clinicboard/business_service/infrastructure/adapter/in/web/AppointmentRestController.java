@@ -1,6 +1,7 @@
 package com.clinicboard.business_service.infrastructure.adapter.in.web;
 
 import java.util.List;
+import java.util.Map;
 import java.time.LocalDate;
 
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -10,8 +11,12 @@ import org.springframework.web.bind.annotation.RestController;
 import com.clinicboard.business_service.application.dto.AppointmentRequestDto;
 import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
 import com.clinicboard.business_service.application.port.in.AppointmentUseCasesPort;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,25 +24,57 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("appointments")
 public class AppointmentRestController {
 
     private final AppointmentUseCasesPort appointmentUseCasesPort;
+    private final ObjectMapper objectMapper;
 
-    public AppointmentRestController(AppointmentUseCasesPort appointmentUseCasesPort) {
+    public AppointmentRestController(AppointmentUseCasesPort appointmentUseCasesPort, ObjectMapper objectMapper) {
         this.appointmentUseCasesPort = appointmentUseCasesPort;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * Paginação por cursor: informe em "after" o id do último item recebido.
+     * O cabeçalho X-Next-Cursor traz o cursor da próxima página; uma página
+     * vazia indica o fim da listagem.
+     */
     @GetMapping()
-    public List<AppointmentResponseDto> findAll() {
-        return appointmentUseCasesPort.findAll();
+    public ResponseEntity<List<AppointmentResponseDto>> findAll(@RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<AppointmentResponseDto> page = appointmentUseCasesPort.findAll(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!page.isEmpty()) {
+            response.header("X-Next-Cursor", page.get(page.size() - 1).getId());
+        }
+        return response.body(page);
     }
 
+    /**
+     * Listagem completa em NDJSON, lida do banco em lotes com memória constante.
+     */
+    @GetMapping(value = "/stream", produces = NdjsonResponses.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return NdjsonResponses.stream(objectMapper.writerFor(AppointmentResponseDto.class),
+                appointmentUseCasesPort::streamAll);
+    }
+
+    /**
+     * Responde com ETag (hash do conteúdo, igual em todas as réplicas); com
+     * If-None-Match da versão atual devolve 304 sem consultar o banco enquanto
+     * o ETag estiver em memória.
+     */
     @GetMapping("/{userId}/date")
-    public List<AppointmentResponseDto> findAppointments(@PathVariable String userId, @RequestParam LocalDate date) {
-        return appointmentUseCasesPort.findAppointments(userId, date);
+    public ResponseEntity<List<AppointmentResponseDto>> findAppointments(@PathVariable String userId,
+            @RequestParam LocalDate date,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ifNoneMatch(ifNoneMatch, appointmentUseCasesPort.appointmentsVersion(userId, date),
+                () -> appointmentUseCasesPort.findAppointments(userId, date));
     }
 
     @GetMapping("/{userId}/available")
@@ -45,6 +82,31 @@ public class AppointmentRestController {
         return appointmentUseCasesPort.findAvailableHours(date, userId);
     }
 
+    /**
+     * Horários livres de cada dia do intervalo, em uma única consulta.
+     * Resposta: {"2025-01-06": ["08:00", ...], "2025-01-07": [...], ...}
+     */
+    @GetMapping(value = "/{userId}/available", params = { "from", "to" })
+    public ResponseEntity<StreamingResponseBody> findAvailableHoursBetween(@PathVariable String userId,
+            @RequestParam LocalDate from, @RequestParam LocalDate to) {
+        Map<LocalDate, List<String>> availability = appointmentUseCasesPort.findAvailableHours(userId, from, to);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartObject();
+                for (Map.Entry<LocalDate, List<String>> day : availability.entrySet()) {
+                    generator.writeArrayFieldStart(day.getKey().toString());
+                    for (String hour : day.getValue()) {
+                        generator.writeString(hour);
+                    }
+                    generator.writeEndArray();
+                }
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     @PostMapping()
     public ResponseEntity<AppointmentResponseDto> create(@RequestBody AppointmentRequestDto appointment) {
         AppointmentResponseDto newAppointment = appointmentUseCasesPort.create(appointment);
@@ -63,4 +125,13 @@ public class AppointmentRestController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Cancela todos os agendamentos do profissional na data informada.
+     */
+    @DeleteMapping("/{userId}/date")
+    public ResponseEntity<Void> deleteAppointments(@PathVariable String userId, @RequestParam LocalDate date) {
+        appointmentUseCasesPort.deleteAppointments(userId, date);
+        return ResponseEntity.noContent().build();
+    }
+
 }
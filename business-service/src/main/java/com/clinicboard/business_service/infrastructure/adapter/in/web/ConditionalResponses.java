@@ -0,0 +1,45 @@
+package com.clinicboard.business_service.infrastructure.adapter.in.web;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * GET condicional: compara o If-None-Match com o ETag atual e só monta o
+ * corpo (consultando o banco) quando o cliente não tem a versão atual.
+ */
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * @param ifNoneMatch valor do cabeçalho If-None-Match (pode ser nulo)
+     * @param etag        ETag atual do recurso
+     * @param body        chamado apenas quando a resposta não é 304
+     */
+    static <T> ResponseEntity<T> ifNoneMatch(String ifNoneMatch, String etag, Supplier<T> body) {
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(body.get());
+    }
+
+    // If-None-Match usa comparação fraca: "W/" é ignorado
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,55 @@
+package com.clinicboard.business_service.infrastructure.adapter.in.web;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Respostas em NDJSON (um objeto JSON por linha), escritas à medida que os
+ * registros são lidos, sem acumular a coleção em memória.
+ */
+final class NdjsonResponses {
+
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private NdjsonResponses() {
+    }
+
+    /**
+     * @param writer writer Jackson usado para serializar cada item
+     * @param source recebe o consumidor de itens e o alimenta (ex.: port.streamAll)
+     */
+    static <T> ResponseEntity<StreamingResponseBody> stream(ObjectWriter writer, Consumer<Consumer<T>> source) {
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+            try {
+                source.accept(item -> writeLine(writer, out, item));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    private static void writeLine(ObjectWriter writer, OutputStream out, Object item) {
+        try {
+            out.write(writer.writeValueAsBytes(item));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -7,8 +7,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.clinicboard.business_service.application.dto.PatientRequestDto;
 import com.clinicboard.business_service.application.dto.PatientResponseDto;
+import com.clinicboard.business_service.application.dto.PatientSummaryDto;
 import com.clinicboard.business_service.application.port.in.PatientUseCasesPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -17,21 +20,45 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("patients")
 public class PatientRestController {
 
     private final PatientUseCasesPort patientUseCasesPort;
+    private final ObjectMapper objectMapper;
 
-    public PatientRestController(PatientUseCasesPort patientUseCasesPort) {
+    public PatientRestController(PatientUseCasesPort patientUseCasesPort, ObjectMapper objectMapper) {
         this.patientUseCasesPort = patientUseCasesPort;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * Paginação por cursor: informe em "after" o id do último item recebido.
+     * O cabeçalho X-Next-Cursor traz o cursor da próxima página; uma página
+     * vazia indica o fim da listagem.
+     */
     @GetMapping()
-    public List<PatientResponseDto> findAll() {
-        return patientUseCasesPort.findAll();
+    public ResponseEntity<List<PatientResponseDto>> findAll(@RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<PatientResponseDto> page = patientUseCasesPort.findAll(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!page.isEmpty()) {
+            response.header("X-Next-Cursor", page.get(page.size() - 1).getId());
+        }
+        return response.body(page);
+    }
+
+    /**
+     * Listagem completa em NDJSON, lida do banco em lotes com memória constante.
+     */
+    @GetMapping(value = "/stream", produces = NdjsonResponses.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return NdjsonResponses.stream(objectMapper.writerFor(PatientResponseDto.class),
+                patientUseCasesPort::streamAll);
     }
 
     @GetMapping("/patient/{id}")
@@ -39,14 +66,27 @@ public class PatientRestController {
         return patientUseCasesPort.findOne(id);
     }
 
+    /**
+     * Responde com ETag (hash do conteúdo, igual em todas as réplicas); com
+     * If-None-Match da versão atual devolve 304 sem consultar o banco enquanto
+     * o ETag estiver em memória.
+     */
     @GetMapping("/user/{userId}")
-    public List<PatientResponseDto> findByUserId(@PathVariable String userId) {
-        return patientUseCasesPort.findByUserId(userId);
+    public ResponseEntity<List<PatientResponseDto>> findByUserId(@PathVariable String userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ifNoneMatch(ifNoneMatch, patientUseCasesPort.patientsVersion(userId),
+                () -> patientUseCasesPort.findByUserId(userId));
     }
 
+    /**
+     * Autocompletar por nome entre os pacientes do profissional autenticado
+     * (X-User-Id, repassado pelo gateway): retorna até "limit" pacientes
+     * (máximo 50), priorizando os nomes que começam com o termo informado.
+     */
     @GetMapping("/patient")
-    public List<PatientResponseDto> findPatientByName(@RequestParam String name) {
-        return patientUseCasesPort.findPatientByName(name);
+    public List<PatientSummaryDto> findPatientByName(@RequestHeader("X-User-Id") String userId,
+            @RequestParam String name, @RequestParam(defaultValue = "20") int limit) {
+        return patientUseCasesPort.findPatientByName(userId, name, limit);
     }
 
     @PostMapping()
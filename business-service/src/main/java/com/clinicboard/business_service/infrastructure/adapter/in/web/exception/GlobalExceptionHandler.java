@@ -17,6 +17,14 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.UNPROCESSABLE_ENTITY);
     }
 
+    // Handler para regras de domínio violadas
+    @ExceptionHandler(com.clinicboard.business_service.domain.exception.BusinessException.class)
+    public ResponseEntity<ErrorResponse> handleDomainBusinessException(
+            com.clinicboard.business_service.domain.exception.BusinessException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
     // Handler para CustomGenericException
     @ExceptionHandler(CustomGenericException.class)
     public ResponseEntity<ErrorResponse> handleCustomGenericException(CustomGenericException ex) {
@@ -0,0 +1,186 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pipeline assíncrono de publicação no RabbitMQ.
+ *
+ * Quem publica apenas enfileira o evento e recebe um CompletableFuture; uma
+ * thread dedicada drena a fila em lotes de até app.messaging.async.batch-size
+ * mensagens, enviadas em sequência no mesmo canal (RabbitTemplate.invoke), e
+ * só então espera os publisher confirms do lote inteiro.
+ *
+ * - O future completa com sucesso no ack do broker; nack, timeout ou return
+ * do mandatory (sem fila de destino) completam com exceção
+ * - Fila limitada (app.messaging.async.queue-capacity): cheia, a publicação
+ * falha na hora em vez de segurar a thread de quem chamou
+ *
+ * Métricas: business.events.publisher.queue.depth (gauge),
+ * .confirm.latency (timer), .published, .failed e .rejected (counters).
+ */
+@Slf4j
+@Component
+public class AsyncEventPublisher {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final RabbitTemplate rabbitTemplate;
+    private final BlockingQueue<PendingEvent> queue;
+    private final int batchSize;
+    private final Duration confirmTimeout;
+
+    private final Timer confirmLatency;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    private volatile boolean running;
+    private Thread publisherThread;
+
+    public AsyncEventPublisher(RabbitTemplate rabbitTemplate,
+            @Value("${app.messaging.async.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.messaging.async.batch-size:100}") int batchSize,
+            @Value("${app.messaging.publish.confirm-timeout:5s}") Duration confirmTimeout,
+            MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.confirmTimeout = confirmTimeout;
+        this.confirmLatency = meterRegistry.timer("business.events.publisher.confirm.latency");
+        this.publishedCounter = meterRegistry.counter("business.events.publisher.published");
+        this.failedCounter = meterRegistry.counter("business.events.publisher.failed");
+        this.rejectedCounter = meterRegistry.counter("business.events.publisher.rejected");
+        meterRegistry.gaugeCollectionSize("business.events.publisher.queue.depth", List.of(), queue);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        publisherThread = Thread.ofPlatform().name("event-publisher").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (publisherThread == null) {
+            return;
+        }
+        // A thread drena o que ficou na fila antes de sair
+        try {
+            publisherThread.join(SHUTDOWN_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Discarding {} unpublished event(s) on shutdown", queue.size());
+        }
+    }
+
+    /**
+     * Enfileira o evento para publicação. Não bloqueia.
+     *
+     * @return future completado no confirm do broker
+     */
+    public CompletableFuture<Void> publish(String exchange, String routingKey, Object event) {
+        PendingEvent pending = new PendingEvent(exchange, routingKey, event, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            rejectedCounter.increment();
+            pending.result().completeExceptionally(
+                    new IllegalStateException("Event publisher queue is full"));
+        }
+        return pending.result();
+    }
+
+    private void run() {
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingEvent first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                publishBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Event publisher batch failed", e);
+                batch.stream().filter(pending -> !pending.result().isDone()).forEach(pending -> fail(pending, e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void publishBatch(List<PendingEvent> batch) throws InterruptedException {
+        List<CorrelationData> correlations = new ArrayList<>(batch.size());
+        long sentAt = System.nanoTime();
+        rabbitTemplate.invoke(operations -> {
+            for (PendingEvent pending : batch) {
+                CorrelationData correlation = new CorrelationData();
+                correlations.add(correlation);
+                operations.convertAndSend(pending.exchange(), pending.routingKey(), pending.event(), correlation);
+            }
+            return null;
+        });
+
+        long deadline = sentAt + confirmTimeout.toNanos();
+        for (int i = 0; i < batch.size(); i++) {
+            awaitConfirm(batch.get(i), correlations.get(i), sentAt, deadline);
+        }
+    }
+
+    private void awaitConfirm(PendingEvent pending, CorrelationData correlation, long sentAt, long deadline)
+            throws InterruptedException {
+        try {
+            CorrelationData.Confirm confirm = correlation.getFuture()
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            confirmLatency.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+            if (!confirm.isAck()) {
+                fail(pending, new IllegalStateException("Broker rejected " + pending.routingKey()
+                        + ": " + confirm.getReason()));
+            } else if (correlation.getReturned() != null) {
+                fail(pending, new IllegalStateException("No queue bound for " + pending.routingKey()));
+            } else {
+                publishedCounter.increment();
+                pending.result().complete(null);
+            }
+        } catch (TimeoutException e) {
+            fail(pending, new BrokerConfirmTimeoutException("No broker confirm for " + pending.routingKey()
+                    + " within " + confirmTimeout, e));
+        } catch (ExecutionException e) {
+            fail(pending, e.getCause());
+        }
+    }
+
+    private void fail(PendingEvent pending, Throwable error) {
+        failedCounter.increment();
+        pending.result().completeExceptionally(error);
+    }
+
+    private record PendingEvent(String exchange, String routingKey, Object event, CompletableFuture<Void> result) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging;
+
+/**
+ * O broker não confirmou a publicação dentro do prazo.
+ *
+ * O resultado é desconhecido: a mensagem pode já estar na fila e ainda ser
+ * confirmada. Por isso não é repetida pelo @Retry nem copiada para a DLQ,
+ * o que geraria entregas duplicadas.
+ */
+public class BrokerConfirmTimeoutException extends IllegalStateException {
+
+    public BrokerConfirmTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging;
+
+/**
+ * Invalidação repassada entre as réplicas do business-service.
+ *
+ * @param origin id da réplica que fez a escrita (ela mesma ignora a mensagem)
+ * @param date   dia da agenda (yyyy-MM-dd), apenas para {@link Scope#APPOINTMENTS}
+ */
+public record CacheInvalidationMessage(String origin, Scope scope, String userId, String date) {
+
+    public enum Scope {
+        APPOINTMENTS, ALL_APPOINTMENTS, PATIENTS
+    }
+}
@@ -0,0 +1,118 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.clinicboard.business_service.application.port.out.CacheInvalidationPort;
+import com.clinicboard.business_service.infrastructure.adapter.out.messaging.CacheInvalidationMessage.Scope;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.DayScheduleCache;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.ResourceVersions;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aplica as invalidações localmente ({@link DayScheduleCache} e
+ * {@link ResourceVersions}) e as repassa às demais réplicas por um exchange
+ * fanout, usando a conexão RabbitMQ já existente. Cada réplica consome de uma
+ * fila anônima própria e ignora as mensagens que ela mesma publicou.
+ *
+ * A publicação é melhor esforço: se o RabbitMQ estiver fora, as outras
+ * réplicas ficam defasadas até o TTL do cache de agendas, o mesmo dos ETags
+ * em {@link ResourceVersions}.
+ *
+ * Chamadas dentro de uma transação só valem após o commit, para que nenhuma
+ * réplica recarregue a agenda antes de a escrita estar visível.
+ */
+@Slf4j
+@Component
+public class ClusterCacheInvalidation implements CacheInvalidationPort {
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final RabbitTemplate rabbitTemplate;
+    private final DayScheduleCache dayScheduleCache;
+    private final ResourceVersions resourceVersions;
+
+    @Value("${app.messaging.exchange.cache-invalidation}")
+    private String cacheInvalidationExchange;
+
+    public ClusterCacheInvalidation(RabbitTemplate rabbitTemplate, DayScheduleCache dayScheduleCache,
+            ResourceVersions resourceVersions) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.dayScheduleCache = dayScheduleCache;
+        this.resourceVersions = resourceVersions;
+    }
+
+    @Override
+    public void appointmentsChanged(String userId, LocalDate date) {
+        if (userId != null && date != null) {
+            applyAndBroadcast(new CacheInvalidationMessage(instanceId, Scope.APPOINTMENTS, userId, date.toString()));
+        }
+    }
+
+    @Override
+    public void allAppointmentsChanged(String userId) {
+        if (userId != null) {
+            applyAndBroadcast(new CacheInvalidationMessage(instanceId, Scope.ALL_APPOINTMENTS, userId, null));
+        }
+    }
+
+    @Override
+    public void patientsChanged(String userId) {
+        if (userId != null) {
+            applyAndBroadcast(new CacheInvalidationMessage(instanceId, Scope.PATIENTS, userId, null));
+        }
+    }
+
+    @RabbitListener(queues = "#{cacheInvalidationQueue.name}")
+    public void onInvalidation(CacheInvalidationMessage message) {
+        if (!instanceId.equals(message.origin())) {
+            apply(message);
+        }
+    }
+
+    private void applyAndBroadcast(CacheInvalidationMessage message) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(message);
+                }
+            });
+        } else {
+            broadcast(message);
+        }
+    }
+
+    private void broadcast(CacheInvalidationMessage message) {
+        apply(message);
+        try {
+            rabbitTemplate.convertAndSend(cacheInvalidationExchange, "", message);
+        } catch (Exception e) {
+            log.warn("Failed to broadcast cache invalidation {} for user: {}. Error: {}",
+                    message.scope(), message.userId(), e.getMessage());
+        }
+    }
+
+    private void apply(CacheInvalidationMessage message) {
+        switch (message.scope()) {
+            case APPOINTMENTS -> {
+                LocalDate date = LocalDate.parse(message.date());
+                dayScheduleCache.evict(message.userId(), date);
+                resourceVersions.appointmentsChanged(message.userId(), date);
+            }
+            case ALL_APPOINTMENTS -> {
+                dayScheduleCache.evictAll(message.userId());
+                resourceVersions.allAppointmentsChanged(message.userId());
+            }
+            case PATIENTS -> resourceVersions.patientsChanged(message.userId());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.OutboxMessage;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.OutboxRepository;
+
+/**
+ * Registra eventos no outbox, dentro da transação de quem chama.
+ *
+ * O evento é serializado aqui pelo mesmo conversor do RabbitTemplate, então
+ * o {@link OutboxRelay} publica exatamente o corpo e o header __TypeId__ que
+ * uma publicação direta produziria.
+ */
+@Component
+public class EventOutbox {
+
+    private static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final OutboxRepository outboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+
+    public EventOutbox(OutboxRepository outboxRepository, RabbitTemplate rabbitTemplate) {
+        this.outboxRepository = outboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String exchange, String routingKey, Object event) {
+        Message message = rabbitTemplate.getMessageConverter().toMessage(event, new MessageProperties());
+        Object typeId = message.getMessageProperties().getHeaders().get(TYPE_ID_HEADER);
+        outboxRepository.save(new OutboxMessage(exchange, routingKey,
+                typeId != null ? typeId.toString() : null,
+                new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+}
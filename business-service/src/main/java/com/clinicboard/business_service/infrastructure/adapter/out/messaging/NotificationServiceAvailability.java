@@ -0,0 +1,58 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Disponibilidade do notification-service segundo o Eureka, atualizada a cada
+ * refresh do cache local do cliente (HeartbeatEvent) em vez de consultada a
+ * cada publicação.
+ *
+ * É apenas informativa: as mensagens vão para o RabbitMQ mesmo com o serviço
+ * fora do registro, já que o broker as guarda na fila durável até o consumidor
+ * voltar. O critério de sucesso da publicação é o confirm do broker.
+ */
+@Slf4j
+@Component
+public class NotificationServiceAvailability {
+
+    private final DiscoveryClient discoveryClient;
+    private final String serviceId;
+
+    // Antes do primeiro refresh não há informação; assume disponível
+    private volatile boolean available = true;
+
+    public NotificationServiceAvailability(DiscoveryClient discoveryClient,
+            @Value("${discovery.client.service.id}") String serviceId) {
+        this.discoveryClient = discoveryClient;
+        this.serviceId = serviceId;
+    }
+
+    @EventListener(HeartbeatEvent.class)
+    public void onRegistryRefreshed() {
+        boolean current;
+        try {
+            List<ServiceInstance> instances = discoveryClient.getInstances(serviceId);
+            current = instances != null && !instances.isEmpty();
+        } catch (Exception e) {
+            log.debug("Could not read {} instances from discovery cache: {}", serviceId, e.getMessage());
+            return;
+        }
+        if (current != available) {
+            log.info("{} is now {} in the service registry", serviceId, current ? "UP" : "DOWN");
+        }
+        available = current;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+}
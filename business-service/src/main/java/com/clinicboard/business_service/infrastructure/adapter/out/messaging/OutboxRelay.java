@@ -0,0 +1,235 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.messaging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.OutboxMessage;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.OutboxRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publica em segundo plano as mensagens gravadas pelo {@link EventOutbox}.
+ *
+ * A cada ciclo trava um lote (SELECT ... FOR UPDATE SKIP LOCKED, então várias
+ * réplicas drenam o outbox sem disputar as mesmas linhas), envia o lote
+ * inteiro em ordem no mesmo canal, espera os publisher confirms juntos (um
+ * único prazo de app.outbox.relay.confirm-timeout para o lote) e remove, na
+ * mesma transação, apenas as mensagens confirmadas pelo broker. Nack ou
+ * timeout deixam a mensagem para o próximo ciclo, quando ela é reenviada.
+ *
+ * - Entrega ao menos uma vez: o messageId é o id do outbox, e o
+ * notification-service descarta as reentregas de um id já entregue
+ * (ProcessedMessageRegistry, por instância e por uma janela limitada)
+ * - Mensagens sem fila de destino (return do mandatory) seguem para a DLQ,
+ * como fazia o fallback da publicação síncrona
+ * - Cada nack, timeout de confirm ou erro no envio de uma mensagem conta uma
+ * tentativa na linha (attempts, last_error); com app.outbox.relay.max-attempts
+ * tentativas ela vai para a DLQ em vez de voltar ao destino a cada ciclo.
+ * Broker inacessível (sem conexão) não conta tentativa
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String TYPE_ID_HEADER = "__TypeId__";
+    private static final String ATTEMPTS_HEADER = "x-outbox-attempts";
+    private static final String LAST_ERROR_HEADER = "x-outbox-last-error";
+
+    private final OutboxRepository outboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration confirmTimeout;
+    private final int maxAttempts;
+
+    @Value("${app.messaging.dlq.exchange.events.dlq}")
+    private String dlqExchange;
+
+    @Value("${app.messaging.dlq.routing-key.events.failed}")
+    private String dlqRoutingKey;
+
+    public OutboxRelay(OutboxRepository outboxRepository, RabbitTemplate rabbitTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${app.outbox.relay.confirm-timeout:5s}") Duration confirmTimeout,
+            @Value("${app.outbox.relay.max-attempts:10}") int maxAttempts) {
+        this.outboxRepository = outboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.confirmTimeout = confirmTimeout;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval-ms:200}")
+    public void drain() {
+        try {
+            // Lote cheio e todo confirmado: provavelmente há mais, segue sem esperar o próximo ciclo
+            boolean more = true;
+            while (more) {
+                more = Boolean.TRUE.equals(transactionTemplate.execute(status -> relayBatch()));
+            }
+        } catch (Exception e) {
+            log.warn("Outbox relay cycle failed, retrying on next cycle. Error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Publica um lote e devolve true quando ele estava cheio e foi todo confirmado.
+     */
+    private boolean relayBatch() {
+        List<OutboxMessage> batch = outboxRepository.lockNextBatch(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        List<OutboxMessage> routable = new ArrayList<>(batch.size());
+        List<OutboxMessage> toDlq = new ArrayList<>();
+        for (OutboxMessage outboxMessage : batch) {
+            if (outboxMessage.getAttempts() >= maxAttempts) {
+                log.warn("Outbox message {} failed {} time(s), last error: {}. Sending to DLQ.",
+                        outboxMessage.getId(), outboxMessage.getAttempts(), outboxMessage.getLastError());
+                toDlq.add(outboxMessage);
+            } else {
+                routable.add(outboxMessage);
+            }
+        }
+
+        List<Long> published = new ArrayList<>(batch.size());
+        long deadline = System.nanoTime() + confirmTimeout.toNanos();
+        for (Delivery delivery : sendAll(routable, false)) {
+            String failure = awaitConfirm(delivery, deadline);
+            if (failure != null) {
+                delivery.outboxMessage().recordFailure(failure);
+            } else if (delivery.correlation().getReturned() != null) {
+                log.warn("Outbox message {} was unroutable on {}. Sending to DLQ.",
+                        delivery.outboxMessage().getId(), delivery.outboxMessage().getRoutingKey());
+                toDlq.add(delivery.outboxMessage());
+            } else {
+                published.add(delivery.outboxMessage().getId());
+            }
+        }
+
+        if (!toDlq.isEmpty()) {
+            long dlqDeadline = System.nanoTime() + confirmTimeout.toNanos();
+            for (Delivery delivery : sendAll(toDlq, true)) {
+                String failure = awaitConfirm(delivery, dlqDeadline);
+                if (failure != null) {
+                    delivery.outboxMessage().recordFailure("DLQ: " + failure);
+                } else {
+                    published.add(delivery.outboxMessage().getId());
+                }
+            }
+        }
+
+        if (!published.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(published);
+            log.debug("Outbox relay published {} message(s)", published.size());
+        }
+        return batch.size() == batchSize && published.size() == batch.size();
+    }
+
+    /**
+     * Envia todas as mensagens em ordem no mesmo canal, sem esperar confirms.
+     *
+     * @param toDlq envia para a DLQ em vez do destino gravado
+     * @return mensagens enviadas, cujos confirms ainda serão aguardados
+     */
+    private List<Delivery> sendAll(List<OutboxMessage> outboxMessages, boolean toDlq) {
+        List<Delivery> sent = new ArrayList<>(outboxMessages.size());
+        if (outboxMessages.isEmpty()) {
+            return sent;
+        }
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (OutboxMessage outboxMessage : outboxMessages) {
+                    Message message = toMessage(outboxMessage);
+                    CorrelationData correlation;
+                    if (toDlq) {
+                        message.getMessageProperties().setHeader(ATTEMPTS_HEADER, outboxMessage.getAttempts());
+                        message.getMessageProperties().setHeader(LAST_ERROR_HEADER, outboxMessage.getLastError());
+                        correlation = new CorrelationData(outboxMessage.getId() + "-dlq");
+                        operations.send(dlqExchange, dlqRoutingKey, message, correlation);
+                    } else {
+                        correlation = new CorrelationData(String.valueOf(outboxMessage.getId()));
+                        operations.send(outboxMessage.getExchange(), outboxMessage.getRoutingKey(), message,
+                                correlation);
+                    }
+                    sent.add(new Delivery(outboxMessage, correlation));
+                }
+                return null;
+            });
+        } catch (AmqpConnectException e) {
+            log.warn("Broker unavailable, {} outbox message(s) left for the next cycle: {}",
+                    outboxMessages.size() - sent.size(), e.getMessage());
+        } catch (Exception e) {
+            // As mensagens já enviadas ainda podem ser confirmadas; a que estava
+            // sendo enviada conta uma tentativa
+            log.warn("Failed to publish outbox batch after {} of {} message(s): {}",
+                    sent.size(), outboxMessages.size(), e.getMessage());
+            if (sent.size() < outboxMessages.size()) {
+                outboxMessages.get(sent.size()).recordFailure(e.getMessage());
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * @return null no ack; caso contrário, o motivo da falha
+     */
+    private String awaitConfirm(Delivery delivery, long deadline) {
+        OutboxMessage outboxMessage = delivery.outboxMessage();
+        try {
+            CorrelationData.Confirm confirm = delivery.correlation().getFuture()
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (confirm.isAck()) {
+                return null;
+            }
+            log.warn("Broker nacked outbox message {}: {}", outboxMessage.getId(), confirm.getReason());
+            return "nack: " + confirm.getReason();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted while waiting for confirm";
+        } catch (TimeoutException e) {
+            log.warn("No broker confirm for outbox message {} within {}", outboxMessage.getId(), confirmTimeout);
+            return "no confirm within " + confirmTimeout;
+        } catch (ExecutionException e) {
+            log.warn("Failed to publish outbox message {} to {}: {}",
+                    outboxMessage.getId(), outboxMessage.getRoutingKey(), e.getCause().getMessage());
+            return e.getCause().getMessage();
+        }
+    }
+
+    private static Message toMessage(OutboxMessage outboxMessage) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setMessageId(String.valueOf(outboxMessage.getId()));
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        if (outboxMessage.getTypeId() != null) {
+            properties.setHeader(TYPE_ID_HEADER, outboxMessage.getTypeId());
+        }
+        return new Message(outboxMessage.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+    }
+
+    private record Delivery(OutboxMessage outboxMessage, CorrelationData correlation) {
+    }
+}
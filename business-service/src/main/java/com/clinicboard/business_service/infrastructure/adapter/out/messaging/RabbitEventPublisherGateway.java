@@ -2,22 +2,35 @@ package com.clinicboard.business_service.infrastructure.adapter.out.messaging;
 
 import com.clinicboard.business_service.application.dto.AppointmentReminderEvent;
 import com.clinicboard.business_service.application.port.out.EventPublisherGateway;
+import com.clinicboard.business_service.domain.event.AppointmentCanceledEvent;
+import com.clinicboard.business_service.domain.event.AppointmentRescheduledEvent;
 import com.clinicboard.business_service.domain.event.AppointmentScheduledEvent;
+import com.clinicboard.business_service.domain.event.DomainEvent;
+import com.clinicboard.business_service.domain.event.PatientChangedEvent;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cloud.client.discovery.DiscoveryClient;
 
 /**
  * Implementação do gateway de eventos usando RabbitMQ com Circuit Breaker.
+ *
+ * O evento de agendamento passa pelo outbox transacional ({@link EventOutbox});
+ * os demais seguem pelo pipeline assíncrono ({@link AsyncEventPublisher}).
  */
 @Slf4j
 @Component
@@ -25,7 +38,9 @@ import org.springframework.cloud.client.discovery.DiscoveryClient;
 public class RabbitEventPublisherGateway implements EventPublisherGateway {
 
     private final RabbitTemplate rabbitTemplate;
-    private final DiscoveryClient discoveryClient;
+    private final AsyncEventPublisher asyncEventPublisher;
+    private final NotificationServiceAvailability notificationServiceAvailability;
+    private final EventOutbox eventOutbox;
 
     @Value("${app.messaging.exchange.events}")
     private String eventsExchange;
@@ -36,68 +51,32 @@ public class RabbitEventPublisherGateway implements EventPublisherGateway {
     @Value("${app.messaging.routing-key.appointment-reminder}")
     private String appointmentReminderRoutingKey;
 
+    @Value("${app.messaging.routing-key.appointment-rescheduled}")
+    private String appointmentRescheduledRoutingKey;
+
+    @Value("${app.messaging.routing-key.appointment-canceled}")
+    private String appointmentCanceledRoutingKey;
+
+    @Value("${app.messaging.routing-key.patient-changed}")
+    private String patientChangedRoutingKey;
+
     @Value("${app.messaging.dlq.exchange.events.dlq}")
     private String dlqExchange;
 
     @Value("${app.messaging.dlq.routing-key.events.failed}")
     private String dlqRoutingKey;
 
-    @Value("${discovery.client.service.id}")
-    private String serviceId;
-
-    private boolean isNotificationServiceAvailable() {
-        try {
-            List<ServiceInstance> instances = discoveryClient.getInstances(serviceId);
-            if (instances != null && !instances.isEmpty()) {
-                return true;
-            }
-            return false;
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    @Override
-    @CircuitBreaker(name = "business-service", fallbackMethod = "publishAppointmentScheduledFallback")
-    @Retry(name = "business-service", fallbackMethod = "publishAppointmentScheduledFallback")
-    public void publishAppointmentScheduled(AppointmentScheduledEvent event) {
-        try {
-            log.debug("Publishing appointment scheduled event for appointment: {}",
-                    event.getAggregateId());
-
-            if (isNotificationServiceAvailable()) {
-                rabbitTemplate.convertAndSend(
-                        eventsExchange,
-                        appointmentScheduledRoutingKey,
-                        event);
-                log.info("Successfully published AppointmentScheduledEvent for appointment: {}",
-                        event.getAggregateId());
-            } else {
-                throw new RuntimeException("Notification service not available");
-            }
-
-        } catch (Exception e) {
-            log.error("Failed to publish AppointmentScheduledEvent for appointment: {}",
-                    event.getAggregateId(), e);
-            throw e; // Re-throw para acionar o Circuit Breaker
-        }
-    }
+    @Value("${app.messaging.publish.confirm-timeout:5s}")
+    private Duration confirmTimeout;
 
     /**
-     * Fallback para AppointmentScheduledEvent - envia para DLQ
+     * Grava o evento no outbox, na transação do agendamento; a publicação no
+     * RabbitMQ fica com o {@link OutboxRelay}, fora do caminho da requisição.
      */
-    public void publishAppointmentScheduledFallback(AppointmentScheduledEvent event, Throwable throwable) {
-        log.warn("Circuit breaker activated for AppointmentScheduledEvent. Sending to DLQ. Appointment: {}. Error: {}",
-                event.getAggregateId(), throwable.getMessage());
-
-        try {
-            rabbitTemplate.convertAndSend(dlqExchange, dlqRoutingKey, event);
-            log.info("AppointmentScheduledEvent sent to DLQ for appointment: {}. Reason: {}",
-                    event.getAggregateId(), throwable.getMessage());
-        } catch (Exception e) {
-            log.error("Failed to send AppointmentScheduledEvent to DLQ for appointment: {}",
-                    event.getAggregateId(), e);
-        }
+    @Override
+    public void publishAppointmentScheduled(AppointmentScheduledEvent event) {
+        eventOutbox.append(eventsExchange, appointmentScheduledRoutingKey, event);
+        log.debug("Appointment scheduled event stored in outbox for appointment: {}", event.getAggregateId());
     }
 
     @Override
@@ -108,16 +87,14 @@ public class RabbitEventPublisherGateway implements EventPublisherGateway {
             log.debug("Publishing appointment reminder event for appointment: {}",
                     event.appointmentId());
 
-            if (isNotificationServiceAvailable()) {
-                rabbitTemplate.convertAndSend(
-                        eventsExchange,
-                        appointmentReminderRoutingKey,
-                        event);
-                log.info("Successfully published AppointmentReminderEvent for appointment: {}",
+            if (!notificationServiceAvailability.isAvailable()) {
+                // O broker guarda a mensagem na fila durável até o consumidor voltar
+                log.info("Notification service is not registered. Reminder for appointment {} will wait in the queue",
                         event.appointmentId());
-            } else {
-                throw new RuntimeException("Notification service not available");
             }
+            publishConfirmed(appointmentReminderRoutingKey, event);
+            log.info("Successfully published AppointmentReminderEvent for appointment: {}",
+                    event.appointmentId());
         } catch (Exception e) {
             log.error("Failed to publish AppointmentReminderEvent for appointment: {}",
                     event.appointmentId(), e);
@@ -125,10 +102,67 @@ public class RabbitEventPublisherGateway implements EventPublisherGateway {
         }
     }
 
+    @Override
+    public List<String> publishAppointmentReminderNotifications(List<AppointmentReminderEvent> events) {
+        // Todo o lote entra na fila de uma vez e os confirms são aguardados juntos
+        List<CompletableFuture<Void>> results = events.stream()
+                .map(event -> asyncEventPublisher.publish(eventsExchange, appointmentReminderRoutingKey, event))
+                .toList();
+        long deadline = System.nanoTime() + confirmTimeout.multipliedBy(2).toNanos();
+
+        List<String> confirmed = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            String appointmentId = events.get(i).appointmentId();
+            try {
+                results.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                confirmed.add(appointmentId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("Failed to publish AppointmentReminderEvent for appointment: {}. Error: {}",
+                        appointmentId, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            }
+        }
+        log.info("Published {} of {} AppointmentReminderEvents", confirmed.size(), events.size());
+        return confirmed;
+    }
+
+    /**
+     * Publica pelo {@link AsyncEventPublisher} e aguarda o confirm do broker.
+     * Nack, timeout ou mensagem sem fila de destino (return do mandatory)
+     * contam como falha; o timeout sai como {@link BrokerConfirmTimeoutException},
+     * que não é repetida (resilience4j.retry...ignore-exceptions).
+     */
+    private void publishConfirmed(String routingKey, Object event) {
+        try {
+            asyncEventPublisher.publish(eventsExchange, routingKey, event)
+                    .get(confirmTimeout.multipliedBy(2).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for broker confirm", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BrokerConfirmTimeoutException timeout) {
+                throw timeout;
+            }
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new BrokerConfirmTimeoutException(
+                    "No broker confirm for " + routingKey + " within " + confirmTimeout, e);
+        }
+    }
+
     /**
-     * Fallback para AppointmentReminderEvent - envia para DLQ
+     * Fallback para AppointmentReminderEvent - envia para DLQ, exceto no timeout
+     * de confirm: a primeira publicação ainda pode ser entregue.
      */
     public void publishAppointmentReminderFallback(AppointmentReminderEvent event, Throwable throwable) {
+        if (throwable instanceof BrokerConfirmTimeoutException) {
+            log.warn("Publish outcome unknown for AppointmentReminderEvent of appointment: {}. Not resending. Error: {}",
+                    event.appointmentId(), throwable.getMessage());
+            return;
+        }
+
         log.warn("Circuit breaker activated for AppointmentReminderEvent. Sending to DLQ. Appointment: {}. Error: {}",
                 event.appointmentId(), throwable.getMessage());
 
@@ -142,4 +176,53 @@ public class RabbitEventPublisherGateway implements EventPublisherGateway {
         }
     }
 
+    /**
+     * Eventos de alteração (remarcação, cancelamento e pacientes) servem para
+     * invalidar dados derivados em outros serviços. Não dependem do serviço de
+     * notificação e uma falha de publicação é apenas registrada: o TTL desses
+     * dados derivados cobre a mensagem perdida.
+     *
+     * Dentro de uma transação o evento só é publicado depois do commit: um
+     * consumidor que recarregue os dados na hora não lê o estado anterior, e
+     * um rollback não publica nada.
+     */
+    @Override
+    public void publishAppointmentRescheduled(AppointmentRescheduledEvent event) {
+        publishChange(appointmentRescheduledRoutingKey, event);
+    }
+
+    @Override
+    public void publishAppointmentCanceled(AppointmentCanceledEvent event) {
+        publishChange(appointmentCanceledRoutingKey, event);
+    }
+
+    @Override
+    public void publishPatientChanged(PatientChangedEvent event) {
+        publishChange(patientChangedRoutingKey, event);
+    }
+
+    private void publishChange(String routingKey, DomainEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sendChange(routingKey, event);
+                }
+            });
+        } else {
+            sendChange(routingKey, event);
+        }
+    }
+
+    private void sendChange(String routingKey, DomainEvent event) {
+        asyncEventPublisher.publish(eventsExchange, routingKey, event).whenComplete((ignored, error) -> {
+            if (error != null) {
+                log.warn("Failed to publish {} for aggregate: {}. Error: {}",
+                        event.getEventType(), event.getAggregateId(), error.getMessage());
+            } else {
+                log.debug("Published {} for aggregate: {}", event.getEventType(), event.getAggregateId());
+            }
+        });
+    }
+
 }
@@ -0,0 +1,47 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.clinicboard.business_service.infrastructure.config.helpers.HourSlots;
+
+/**
+ * Calcula os horários livres de um profissional a partir de projeções que
+ * trazem apenas as horas ocupadas.
+ *
+ * A ocupação de cada dia vira um bitmask de {@link HourSlots}; a lista de
+ * horários livres é obtida diretamente do bitmask, sem varrer agendamentos
+ * para cada slot nem formatar strings a cada chamada.
+ */
+@Component
+public class AppointmentAvailabilityEngine {
+
+    private final AppointmentRepository appointmentRepository;
+
+    public AppointmentAvailabilityEngine(AppointmentRepository appointmentRepository) {
+        this.appointmentRepository = appointmentRepository;
+    }
+
+    /**
+     * Horários livres do profissional para cada dia do intervalo (inclusivo),
+     * resolvidos com uma única consulta. Todos os dias do intervalo estão
+     * presentes no resultado, em ordem cronológica.
+     */
+    public Map<LocalDate, List<String>> findAvailableHours(String userId, LocalDate from, LocalDate to) {
+        Map<LocalDate, Integer> occupiedByDay = new HashMap<>();
+        for (AppointmentHourView view : appointmentRepository.findHoursByUserIdBetween(userId, from, to)) {
+            occupiedByDay.merge(view.date(), HourSlots.occupy(0, view.hour()), (current, bit) -> current | bit);
+        }
+
+        Map<LocalDate, List<String>> availability = new LinkedHashMap<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            availability.put(day, HourSlots.freeHours(occupiedByDay.getOrDefault(day, 0)));
+        }
+        return availability;
+    }
+}
@@ -0,0 +1,9 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção mínima de um horário ocupado: dia e hora, sem hidratar a entidade.
+ */
+public record AppointmentHourView(LocalDate date, String hour) {
+}
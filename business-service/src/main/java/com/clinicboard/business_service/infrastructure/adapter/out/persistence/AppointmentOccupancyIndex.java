@@ -0,0 +1,173 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.clinicboard.business_service.application.port.out.AppointmentOccupancyPort;
+import com.clinicboard.business_service.infrastructure.config.helpers.HourSlots;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice em memória da ocupação da agenda, usado nas verificações de conflito.
+ *
+ * Estrutura:
+ * - (profissional, dia) -> bitmask dos 14 slots de {@link HourSlots}
+ * - (paciente, dia) -> presença de agendamento
+ *
+ * O índice é aquecido a partir do banco na subida da aplicação e mantido pelo
+ * {@link AppointmentPersistencePortImpl} em create/update/delete. Como cada
+ * réplica tem o seu próprio índice, ele nunca é a palavra final:
+ * - uma ocupação encontrada no índice é confirmada no banco (e corrigida se
+ * estiver desatualizada);
+ * - uma ocupação ausente no índice é protegida pelas constraints únicas da
+ * tabela appointments.
+ * Enquanto o índice não estiver aquecido, ou para horários fora da grade,
+ * a consulta vai direto ao banco.
+ */
+@Slf4j
+@Component
+public class AppointmentOccupancyIndex implements AppointmentOccupancyPort {
+
+    private final AppointmentRepository appointmentRepository;
+
+    private volatile Map<DayKey, Integer> slotsByDay = new ConcurrentHashMap<>();
+    private volatile Set<DayKey> patientDays = ConcurrentHashMap.newKeySet();
+    private volatile boolean warmed;
+
+    public AppointmentOccupancyIndex(AppointmentRepository appointmentRepository) {
+        this.appointmentRepository = appointmentRepository;
+    }
+
+    /**
+     * Carrega a ocupação de hoje em diante. Os mapas são montados à parte e
+     * trocados de uma vez; escritas concorrentes perdidas durante a carga só
+     * geram ausências no índice, que são cobertas pelas constraints do banco.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            List<AppointmentSlotView> slots = appointmentRepository.findSlotsFrom(LocalDate.now());
+
+            Map<DayKey, Integer> freshSlots = new ConcurrentHashMap<>();
+            Set<DayKey> freshPatientDays = ConcurrentHashMap.newKeySet();
+            for (AppointmentSlotView slot : slots) {
+                markSlot(freshSlots, slot.professionalId(), slot.date(), slot.hour());
+                freshPatientDays.add(new DayKey(slot.patientId(), slot.date()));
+            }
+
+            this.slotsByDay = freshSlots;
+            this.patientDays = freshPatientDays;
+            this.warmed = true;
+            log.info("Appointment occupancy index warmed with {} appointments", slots.size());
+        } catch (Exception e) {
+            this.warmed = false;
+            log.error("Failed to warm appointment occupancy index. Conflict checks will use the database", e);
+        }
+    }
+
+    @Override
+    public boolean isSlotOccupied(String professionalId, LocalDate date, String hour) {
+        int slot = HourSlots.indexOf(hour);
+        if (!warmed || slot < 0) {
+            return appointmentRepository.existsByUserIdAndDateAndHour(professionalId, date, hour);
+        }
+
+        DayKey key = new DayKey(professionalId, date);
+        int mask = slotsByDay.getOrDefault(key, 0);
+        if ((mask & HourSlots.bitOf(slot)) == 0) {
+            return false;
+        }
+
+        // Conflito no índice: confirma no banco, pois outra réplica pode ter liberado o horário
+        boolean occupied = appointmentRepository.existsByUserIdAndDateAndHour(professionalId, date, hour);
+        if (!occupied) {
+            clearSlot(professionalId, date, hour);
+        }
+        return occupied;
+    }
+
+    @Override
+    public boolean hasPatientAppointmentOn(String patientId, LocalDate date) {
+        if (!warmed) {
+            return appointmentRepository.existsByPatientIdAndDate(patientId, date);
+        }
+
+        DayKey key = new DayKey(patientId, date);
+        if (!patientDays.contains(key)) {
+            return false;
+        }
+
+        boolean exists = appointmentRepository.existsByPatientIdAndDate(patientId, date);
+        if (!exists) {
+            patientDays.remove(key);
+        }
+        return exists;
+    }
+
+    /**
+     * Registra a ocupação de um agendamento recém gravado.
+     */
+    public void register(String professionalId, String patientId, LocalDate date, String hour) {
+        if (professionalId == null || date == null) {
+            return;
+        }
+        markSlot(slotsByDay, professionalId, date, hour);
+        if (patientId != null) {
+            patientDays.add(new DayKey(patientId, date));
+        }
+    }
+
+    /**
+     * Libera a ocupação de um agendamento removido ou remarcado.
+     */
+    public void release(String professionalId, String patientId, LocalDate date, String hour) {
+        if (professionalId == null || date == null) {
+            return;
+        }
+        clearSlot(professionalId, date, hour);
+        if (patientId != null) {
+            patientDays.remove(new DayKey(patientId, date));
+        }
+    }
+
+    /**
+     * Descarta diariamente os dias que já passaram.
+     */
+    @Scheduled(cron = "0 5 0 * * *", zone = "America/Sao_Paulo")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        slotsByDay.keySet().removeIf(key -> key.date().isBefore(today));
+        patientDays.removeIf(key -> key.date().isBefore(today));
+    }
+
+    private static void markSlot(Map<DayKey, Integer> target, String professionalId, LocalDate date, String hour) {
+        int slot = HourSlots.indexOf(hour);
+        if (slot < 0) {
+            return;
+        }
+        target.merge(new DayKey(professionalId, date), HourSlots.bitOf(slot), (current, bit) -> current | bit);
+    }
+
+    private void clearSlot(String professionalId, LocalDate date, String hour) {
+        int slot = HourSlots.indexOf(hour);
+        if (slot < 0) {
+            return;
+        }
+        slotsByDay.computeIfPresent(new DayKey(professionalId, date), (key, current) -> {
+            int mask = current & ~HourSlots.bitOf(slot);
+            return mask == 0 ? null : mask;
+        });
+    }
+
+    private record DayKey(String ownerId, LocalDate date) {
+    }
+}
@@ -2,9 +2,18 @@ package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
-
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.clinicboard.business_service.application.dto.AppointmentRequestDto;
 import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
@@ -12,71 +21,163 @@ import com.clinicboard.business_service.application.port.out.AppointmentPersiste
 import com.clinicboard.business_service.domain.model.Appointment;
 import com.clinicboard.business_service.infrastructure.adapter.in.web.exception.CustomGenericException;
 import com.clinicboard.business_service.infrastructure.adapter.out.persistence.mapper.AppointmentMapper;
-import com.clinicboard.business_service.infrastructure.config.helpers.Utils;
 
 @Repository
 public class AppointmentPersistencePortImpl implements AppointmentPersistencePort {
 
     private final AppointmentRepository appointmentRepository;
     private final AppointmentMapper appointmentMapper;
+    private final AppointmentOccupancyIndex occupancyIndex;
+    private final AppointmentAvailabilityEngine availabilityEngine;
+    private final ResourceVersions resourceVersions;
+    private final DayScheduleCache dayScheduleCache;
 
     public AppointmentPersistencePortImpl(AppointmentRepository appointmentRepository,
-            AppointmentMapper appointmentMapper) {
+            AppointmentMapper appointmentMapper, AppointmentOccupancyIndex occupancyIndex,
+            AppointmentAvailabilityEngine availabilityEngine, ResourceVersions resourceVersions,
+            DayScheduleCache dayScheduleCache) {
         this.appointmentRepository = appointmentRepository;
         this.appointmentMapper = appointmentMapper;
+        this.occupancyIndex = occupancyIndex;
+        this.availabilityEngine = availabilityEngine;
+        this.resourceVersions = resourceVersions;
+        this.dayScheduleCache = dayScheduleCache;
     }
 
     @Override
     public AppointmentResponseDto create(AppointmentRequestDto appointment) {
 
         Appointment appointmentDomain = appointmentMapper.toEntity(appointment);
-        Appointment savedAppointment = appointmentRepository.save(appointmentDomain);
-        return appointmentMapper.toDto(savedAppointment);
+        AppointmentResponseDto savedAppointment = appointmentMapper.toDto(saveGuarded(appointmentDomain));
+        registerOccupancy(savedAppointment);
+        releaseOccupancyOnRollback(savedAppointment);
+        return savedAppointment;
+    }
+
+    @Override
+    public List<AppointmentResponseDto> findAll(String after, int limit) {
+        return appointmentRepository.findPageAfter(after == null ? "" : after, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<AppointmentResponseDto> consumer) {
+        try (Stream<AppointmentResponseDto> appointments = appointmentRepository.streamAll()) {
+            appointments.forEach(consumer);
+        }
     }
 
     @Override
-    public List<AppointmentResponseDto> findAll() {
-        return appointmentRepository.findAll().stream()
-                .map(appointmentMapper::toDto)
-                .collect(Collectors.toList());
+    public Optional<AppointmentResponseDto> findById(String id) {
+        return appointmentRepository.findById(id).map(appointmentMapper::toDto);
     }
 
     @Override
     public AppointmentResponseDto update(String id, AppointmentRequestDto appointment) {
         Appointment existingAppointment = appointmentRepository.findById(id)
                 .orElseThrow(() -> new CustomGenericException("Agendamento com id " + id + " não foi encontrado"));
+        AppointmentResponseDto previousAppointment = appointmentMapper.toDto(existingAppointment);
         appointmentMapper.updateAppointmentFromDto(appointment, existingAppointment);
-        return appointmentMapper.toDto(appointmentRepository.save(existingAppointment));
+        if (!Objects.equals(previousAppointment.getDate(), existingAppointment.getDate())
+                || !Objects.equals(previousAppointment.getHour(),
+                        appointmentMapper.hourToString(existingAppointment.getHour()))) {
+            // Novo horário, novo lembrete
+            existingAppointment.setReminderSentAt(null);
+        }
+        AppointmentResponseDto updatedAppointment = appointmentMapper.toDto(saveGuarded(existingAppointment));
+        releaseOccupancy(previousAppointment);
+        registerOccupancy(updatedAppointment);
+        return updatedAppointment;
     }
 
     @Override
     public void delete(String id) {
-        appointmentRepository.deleteById(id);
+        appointmentRepository.findById(id).ifPresent(appointment -> {
+            AppointmentResponseDto deletedAppointment = appointmentMapper.toDto(appointment);
+            appointmentRepository.delete(appointment);
+            releaseOccupancy(deletedAppointment);
+        });
+    }
+
+    // Um único DELETE para o dia inteiro, em vez de um por agendamento
+    @Override
+    public List<AppointmentResponseDto> deleteAppointments(String userId, LocalDate date) {
+        List<Appointment> appointments = appointmentRepository.findByDateAndUserId(date, userId);
+        if (appointments.isEmpty()) {
+            return List.of();
+        }
+        List<AppointmentResponseDto> deletedAppointments = appointments.stream().map(appointmentMapper::toDto).toList();
+        appointmentRepository.deleteAllInBatch(appointments);
+        deletedAppointments.forEach(this::releaseOccupancy);
+        return deletedAppointments;
+    }
 
+    @Override
+    @Transactional
+    public List<AppointmentResponseDto> deletePatientAppointments(String patientId) {
+        List<AppointmentResponseDto> deletedAppointments = appointmentRepository.findByPatientId(patientId);
+        if (deletedAppointments.isEmpty()) {
+            return List.of();
+        }
+        appointmentRepository.deleteByPatientId(patientId);
+        deletedAppointments.forEach(this::releaseOccupancy);
+        return deletedAppointments;
     }
 
     @Override
     public List<AppointmentResponseDto> findAppointments(String id, LocalDate date) {
-        return appointmentRepository.findByDateAndUserId(date, id).stream()
-                .map(appointmentMapper::toDto)
-                .collect(Collectors.toList());
+        return dayScheduleCache.get(id, date).appointments();
+    }
+
+    @Override
+    public String appointmentsVersion(String userId, LocalDate date) {
+        return resourceVersions.appointmentsETag(userId, date, () -> findAppointments(userId, date));
     }
 
     @Override
     public List<String> findAvailableHours(LocalDate date, String userId) {
-        List<Appointment> appointments = appointmentRepository.findByDateAndUserId(date, userId);
+        return dayScheduleCache.get(userId, date).freeHours();
+    }
+
+    @Override
+    public Map<LocalDate, List<String>> findAvailableHours(String userId, LocalDate from, LocalDate to) {
+        return availabilityEngine.findAvailableHours(userId, from, to);
+    }
+
+    // As constraints únicas da tabela são a garantia final contra conflitos que
+    // passaram pelo índice em memória (ex.: gravações simultâneas em outra réplica)
+    private Appointment saveGuarded(Appointment appointment) {
+        try {
+            return appointmentRepository.saveAndFlush(appointment);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomGenericException(
+                    "Conflito de agendamento: o horário ou o paciente já possui agendamento nesta data");
+        }
+    }
 
-        List<String> allHours = Utils.generateAllHours();
+    private void registerOccupancy(AppointmentResponseDto appointment) {
+        occupancyIndex.register(appointment.getUser_id(), appointment.getPatient_id(),
+                appointment.getDate(), appointment.getHour());
+    }
 
-        return allHours.stream()
-                .filter(hour -> !appointments.stream()
-                        .anyMatch(appointment -> appointment.getHour().value().equals(hour)))
-                .collect(Collectors.toList());
+    // Dentro da transação do caso de uso a gravação ainda pode ser desfeita
+    // (ex.: falha ao gravar o outbox); o índice em memória acompanha o rollback
+    private void releaseOccupancyOnRollback(AppointmentResponseDto appointment) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        releaseOccupancy(appointment);
+                    }
+                }
+            });
+        }
     }
 
-    @Override
-    public AppointmentRepository getAppointmentRepository() {
-        return this.appointmentRepository;
+    private void releaseOccupancy(AppointmentResponseDto appointment) {
+        occupancyIndex.release(appointment.getUser_id(), appointment.getPatient_id(),
+                appointment.getDate(), appointment.getHour());
     }
 
 }
@@ -1,23 +1,110 @@
 package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
 import com.clinicboard.business_service.domain.model.Appointment;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 public interface AppointmentRepository extends JpaRepository<Appointment, String> {
 
     // Verifica se o paciente já tem um agendamento na mesma data
     boolean existsByPatientIdAndDate(String patientId, LocalDate date);
 
-    // Verifica se existe um agendamento em uma data e hora específicas
-    @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Appointment a WHERE a.date = :date AND a.hour.value = :hour")
-    boolean existsByDateAndHour(@Param("date") LocalDate date, @Param("hour") String hour);
+    // Verifica se o profissional já tem um agendamento em uma data e hora específicas
+    @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Appointment a WHERE a.professionalId.value = :userId AND a.date = :date AND a.hour.value = :hour")
+    boolean existsByUserIdAndDateAndHour(@Param("userId") String userId, @Param("date") LocalDate date,
+            @Param("hour") String hour);
 
     @Query("SELECT a FROM Appointment a LEFT JOIN FETCH a.patient WHERE a.date = :date AND a.professionalId.value = :userId")
     List<Appointment> findByDateAndUserId(@Param("date") LocalDate date, @Param("userId") String userId);
+
+    // Agenda do profissional no dia como DTOs, sem carregar entidades nem o paciente
+    @Query("SELECT new com.clinicboard.business_service.application.dto.AppointmentResponseDto("
+            + "a.id, a.date, a.hour.value, a.type, a.professionalId.value, a.patient.id) "
+            + "FROM Appointment a WHERE a.date = :date AND a.professionalId.value = :userId")
+    List<AppointmentResponseDto> findDayScheduleByDateAndUserId(@Param("date") LocalDate date,
+            @Param("userId") String userId);
+
+    // Horários ocupados do profissional em um intervalo de datas (inclusivo), um registro por (dia, hora)
+    @Query("SELECT new com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentHourView("
+            + "a.date, a.hour.value) "
+            + "FROM Appointment a WHERE a.professionalId.value = :userId AND a.date BETWEEN :from AND :to "
+            + "GROUP BY a.date, a.hour.value")
+    List<AppointmentHourView> findHoursByUserIdBetween(@Param("userId") String userId,
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Paginação por cursor (keyset): próxima página após o último id retornado
+    @Query("SELECT new com.clinicboard.business_service.application.dto.AppointmentResponseDto("
+            + "a.id, a.date, a.hour.value, a.type, a.professionalId.value, a.patient.id) "
+            + "FROM Appointment a WHERE a.id > :after ORDER BY a.id")
+    List<AppointmentResponseDto> findPageAfter(@Param("after") String after, Limit limit);
+
+    // Agendamentos do paciente, lidos antes da exclusão em lote
+    @Query("SELECT new com.clinicboard.business_service.application.dto.AppointmentResponseDto("
+            + "a.id, a.date, a.hour.value, a.type, a.professionalId.value, a.patient.id) "
+            + "FROM Appointment a WHERE a.patient.id = :patientId")
+    List<AppointmentResponseDto> findByPatientId(@Param("patientId") String patientId);
+
+    @Modifying
+    @Query("DELETE FROM Appointment a WHERE a.patient.id = :patientId")
+    int deleteByPatientId(@Param("patientId") String patientId);
+
+    // Leitura contínua de toda a tabela, em lotes do tamanho do fetch size
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.clinicboard.business_service.application.dto.AppointmentResponseDto("
+            + "a.id, a.date, a.hour.value, a.type, a.professionalId.value, a.patient.id) "
+            + "FROM Appointment a ORDER BY a.id")
+    Stream<AppointmentResponseDto> streamAll();
+
+    // Projeção de ocupação a partir de uma data, usada no aquecimento do índice em memória
+    @Query("SELECT new com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentSlotView("
+            + "a.id, a.professionalId.value, a.patient.id, a.date, a.hour.value) "
+            + "FROM Appointment a WHERE a.date >= :from")
+    List<AppointmentSlotView> findSlotsFrom(@Param("from") LocalDate from);
+
+    // Lembretes devidos na janela (agora, agora + 24h], ainda não enviados. A janela
+    // cabe em dois dias: o restante de hoje e amanhã até o mesmo horário.
+    // SKIP LOCKED: réplicas varrendo ao mesmo tempo pegam lotes diferentes
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT a FROM Appointment a WHERE a.reminderSentAt IS NULL AND ("
+            + "(a.date = :today AND a.hour.value > :time) OR (a.date = :tomorrow AND a.hour.value <= :time)) "
+            + "ORDER BY a.date, a.hour.value")
+    List<Appointment> lockDueReminders(@Param("today") LocalDate today, @Param("tomorrow") LocalDate tomorrow,
+            @Param("time") String time, Limit limit);
+
+    @Modifying
+    @Query("UPDATE Appointment a SET a.reminderSentAt = :sentAt WHERE a.id IN :ids")
+    int markRemindersSent(@Param("ids") Collection<String> ids, @Param("sentAt") Instant sentAt);
+
+    // Mesmos agendamentos, por id, para quem já sabe quais lembretes vencem agora
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT a FROM Appointment a WHERE a.id IN :ids AND a.reminderSentAt IS NULL")
+    List<Appointment> lockUnsentReminders(@Param("ids") Collection<String> ids);
+
+    // Agendamentos com lembrete pendente em um intervalo de datas (inclusivo)
+    @Query("SELECT new com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentSlotView("
+            + "a.id, a.professionalId.value, a.patient.id, a.date, a.hour.value) "
+            + "FROM Appointment a WHERE a.reminderSentAt IS NULL AND a.date BETWEEN :from AND :to")
+    List<AppointmentSlotView> findUnsentReminderSlots(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
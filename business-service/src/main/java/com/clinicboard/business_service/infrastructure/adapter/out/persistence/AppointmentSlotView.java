@@ -0,0 +1,15 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção enxuta de um agendamento: apenas o necessário para saber quem
+ * ocupa qual horário, sem hidratar a entidade nem o paciente.
+ */
+public record AppointmentSlotView(
+        String appointmentId,
+        String professionalId,
+        String patientId,
+        LocalDate date,
+        String hour) {
+}
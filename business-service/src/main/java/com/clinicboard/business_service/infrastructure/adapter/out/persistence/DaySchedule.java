@@ -0,0 +1,45 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+import java.util.List;
+
+import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
+import com.clinicboard.business_service.infrastructure.config.helpers.HourSlots;
+
+/**
+ * Agenda imutável de um profissional em um dia: os agendamentos e o bitmask
+ * de horários ocupados, de onde saem os horários livres.
+ *
+ * Os DTOs guardados nunca são expostos: cada leitura recebe cópias, já que
+ * a mesma instância é compartilhada pelo {@link DayScheduleCache}.
+ */
+public final class DaySchedule {
+
+    private final List<AppointmentResponseDto> appointments;
+    private final int occupiedMask;
+
+    private DaySchedule(List<AppointmentResponseDto> appointments, int occupiedMask) {
+        this.appointments = appointments;
+        this.occupiedMask = occupiedMask;
+    }
+
+    public static DaySchedule of(List<AppointmentResponseDto> appointments) {
+        int occupied = 0;
+        for (AppointmentResponseDto appointment : appointments) {
+            occupied = HourSlots.occupy(occupied, appointment.getHour());
+        }
+        return new DaySchedule(appointments.stream().map(DaySchedule::copyOf).toList(), occupied);
+    }
+
+    public List<AppointmentResponseDto> appointments() {
+        return appointments.stream().map(DaySchedule::copyOf).toList();
+    }
+
+    public List<String> freeHours() {
+        return HourSlots.freeHours(occupiedMask);
+    }
+
+    private static AppointmentResponseDto copyOf(AppointmentResponseDto appointment) {
+        return new AppointmentResponseDto(appointment.getId(), appointment.getDate(), appointment.getHour(),
+                appointment.getType(), appointment.getUser_id(), appointment.getPatient_id());
+    }
+}
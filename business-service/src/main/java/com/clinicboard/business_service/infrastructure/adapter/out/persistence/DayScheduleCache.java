@@ -0,0 +1,71 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache limitado das agendas por (profissional, dia), compartilhado pela
+ * listagem do dia e pelos horários livres, que costumam ser pedidos em
+ * sequência para a mesma tela. A carga é uma projeção direto nos DTOs, sem
+ * entidades nem o join com o paciente (só o patient_id é exposto).
+ *
+ * A invalidação é explícita, feita pelos casos de uso a cada escrita (e
+ * repassada às demais réplicas via RabbitMQ); o TTL é apenas uma proteção
+ * contra alguma invalidação perdida. Uma invalidação que chega durante a
+ * carga da mesma chave espera a carga terminar e descarta o resultado.
+ */
+@Component
+public class DayScheduleCache {
+
+    private final AppointmentRepository appointmentRepository;
+    private final Cache<Key, DaySchedule> cache;
+
+    public DayScheduleCache(AppointmentRepository appointmentRepository,
+            @Value("${app.cache.day-schedule.max-size:10000}") long maxSize,
+            @Value("${app.cache.day-schedule.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.appointmentRepository = appointmentRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "day_schedule");
+    }
+
+    public DaySchedule get(String userId, LocalDate date) {
+        return cache.get(new Key(userId, date), this::load);
+    }
+
+    public void evict(String userId, LocalDate date) {
+        if (userId != null && date != null) {
+            cache.invalidate(new Key(userId, date));
+        }
+    }
+
+    /**
+     * Remove todas as agendas do profissional (ex.: exclusão de paciente com
+     * agendamentos em cascata).
+     */
+    public void evictAll(String userId) {
+        if (userId != null) {
+            cache.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+        }
+    }
+
+    private DaySchedule load(Key key) {
+        return DaySchedule.of(appointmentRepository.findDayScheduleByDateAndUserId(key.date(), key.userId()));
+    }
+
+    private record Key(String userId, LocalDate date) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+/**
+ * Mensagem pendente de publicação no RabbitMQ (transactional outbox).
+ *
+ * Gravada na mesma transação da escrita que gerou o evento, já serializada
+ * pelo conversor do RabbitTemplate (corpo JSON e header __TypeId__), e
+ * removida pelo relay depois do confirm do broker. O id sequencial define a
+ * ordem de publicação.
+ *
+ * Cada falha de publicação (nack, timeout de confirm, erro no envio) soma uma
+ * tentativa e guarda o erro; ao chegar em app.outbox.relay.max-attempts a
+ * mensagem vai para a DLQ.
+ */
+@Entity
+@Table(name = "outbox_messages")
+@Getter
+public class OutboxMessage {
+
+    private static final int LAST_ERROR_LENGTH = 1024;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false)
+    private String routingKey;
+
+    @Column(name = "type_id")
+    private String typeId;
+
+    @Column(nullable = false, length = 8192)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(columnDefinition = "integer default 0 not null")
+    private int attempts;
+
+    @Column(name = "last_error", length = LAST_ERROR_LENGTH)
+    private String lastError;
+
+    protected OutboxMessage() {
+    }
+
+    public OutboxMessage(String exchange, String routingKey, String typeId, String payload) {
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.typeId = typeId;
+        this.payload = payload;
+        this.createdAt = Instant.now();
+    }
+
+    /**
+     * Registra uma tentativa de publicação que falhou.
+     */
+    public void recordFailure(String error) {
+        attempts++;
+        lastError = error != null && error.length() > LAST_ERROR_LENGTH
+                ? error.substring(0, LAST_ERROR_LENGTH)
+                : error;
+    }
+}
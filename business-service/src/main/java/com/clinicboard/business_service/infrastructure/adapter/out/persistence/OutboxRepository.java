@@ -0,0 +1,21 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface OutboxRepository extends JpaRepository<OutboxMessage, Long> {
+
+    // Próximo lote em ordem de gravação; SKIP LOCKED deixa cada réplica com um lote diferente
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM OutboxMessage m ORDER BY m.id")
+    List<OutboxMessage> lockNextBatch(Limit limit);
+}
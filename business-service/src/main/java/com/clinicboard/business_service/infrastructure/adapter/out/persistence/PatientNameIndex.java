@@ -0,0 +1,177 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de trigramas em memória para busca de pacientes por nome.
+ *
+ * Usado quando o banco não oferece pg_trgm (H2 em desenvolvimento e testes).
+ * Segue a mesma semântica da consulta no PostgreSQL: comparação sem
+ * diferenciar maiúsculas, busca por trecho do nome e ranking que coloca
+ * primeiro os nomes que começam com o termo, depois os que têm uma palavra
+ * começando com o termo e por último os demais, em ordem alfabética.
+ *
+ * Termos com menos de três caracteres não formam trigramas e são resolvidos
+ * apenas por prefixo, em um conjunto ordenado pelo nome.
+ */
+public class PatientNameIndex {
+
+    private static final int GRAM_SIZE = 3;
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final Map<String, String> namesById = new HashMap<>();
+    private final Map<String, Set<String>> idsByGram = new HashMap<>();
+    private final NavigableSet<String> sortedNames = new TreeSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Inclui ou atualiza o nome de um paciente.
+     */
+    public void put(String id, String name) {
+        if (id == null || name == null) {
+            return;
+        }
+        String normalized = normalize(name);
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+            namesById.put(id, normalized);
+            sortedNames.add(normalized + KEY_SEPARATOR + id);
+            for (String gram : gramsOf(normalized)) {
+                idsByGram.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        if (id == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            namesById.clear();
+            idsByGram.clear();
+            sortedNames.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return namesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids dos pacientes cujo nome contém o termo, já ordenados pelo ranking.
+     */
+    public List<String> search(String term, int limit) {
+        String query = term == null ? "" : normalize(term.trim());
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return query.length() < GRAM_SIZE ? searchByPrefix(query, limit) : searchByGrams(query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<String> searchByPrefix(String query, int limit) {
+        List<String> ids = new ArrayList<>(limit);
+        for (String key : sortedNames.subSet(query, true, query + Character.MAX_VALUE, true)) {
+            ids.add(key.substring(key.lastIndexOf(KEY_SEPARATOR) + 1));
+            if (ids.size() == limit) {
+                break;
+            }
+        }
+        return ids;
+    }
+
+    private List<String> searchByGrams(String query, int limit) {
+        // Percorre a menor lista de candidatos e confirma o trecho no nome
+        Set<String> smallest = null;
+        for (String gram : gramsOf(query)) {
+            Set<String> ids = idsByGram.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+
+        List<String> matches = new ArrayList<>();
+        for (String id : smallest) {
+            if (namesById.get(id).contains(query)) {
+                matches.add(id);
+            }
+        }
+
+        matches.sort(Comparator.<String>comparingInt(id -> rank(namesById.get(id), query))
+                .thenComparing(namesById::get)
+                .thenComparing(Comparator.naturalOrder()));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    private void removeUnlocked(String id) {
+        String previous = namesById.remove(id);
+        if (previous == null) {
+            return;
+        }
+        sortedNames.remove(previous + KEY_SEPARATOR + id);
+        for (String gram : gramsOf(previous)) {
+            Set<String> ids = idsByGram.get(gram);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                idsByGram.remove(gram);
+            }
+        }
+    }
+
+    private static int rank(String name, String query) {
+        if (name.startsWith(query)) {
+            return 0;
+        }
+        return name.contains(" " + query) ? 1 : 2;
+    }
+
+    private static Set<String> gramsOf(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
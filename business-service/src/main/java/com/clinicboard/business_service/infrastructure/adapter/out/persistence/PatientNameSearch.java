@@ -0,0 +1,171 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.clinicboard.business_service.application.dto.PatientSummaryDto;
+import com.clinicboard.business_service.domain.model.Patient;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Busca de pacientes por nome para o campo de autocompletar da recepção.
+ *
+ * - PostgreSQL: consulta LIKE sobre lower(name), atendida por um índice GIN
+ * com pg_trgm (trechos com 3+ caracteres) e por um índice
+ * (user_id, lower(name) text_pattern_ops) para prefixos curtos. Os índices
+ * são criados na subida; se faltar permissão para a extensão, a consulta
+ * continua funcionando, apenas sem o índice.
+ * - Outros bancos (H2, apenas desenvolvimento e testes): um
+ * {@link PatientNameIndex} em memória por profissional, aquecido na subida
+ * com a projeção {@link PatientNameView} (id, user_id e nome) e mantido pelo
+ * {@link PatientPersistencePortImpl}. Guarda todos os nomes no heap, por isso
+ * não é o caminho de produção.
+ *
+ * A busca é sempre restrita aos pacientes do profissional (coluna user_id),
+ * limitada e ordenada por relevância: prefixo do nome, prefixo de uma
+ * palavra e depois os demais. O retorno é a projeção {@link PatientSummaryDto}.
+ */
+@Slf4j
+@Component
+public class PatientNameSearch {
+
+    private static final int MIN_GRAM_LENGTH = 3;
+
+    private final PatientRepository patientRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, PatientNameIndex> indexesByUser = new ConcurrentHashMap<>();
+    private final Map<String, String> ownerByPatient = new ConcurrentHashMap<>();
+
+    private volatile boolean inMemory;
+
+    public PatientNameSearch(PatientRepository patientRepository, JdbcTemplate jdbcTemplate) {
+        this.patientRepository = patientRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        String product = databaseProductName();
+        if ("PostgreSQL".equalsIgnoreCase(product)) {
+            createTrigramIndexes();
+            return;
+        }
+
+        try {
+            indexesByUser.clear();
+            ownerByPatient.clear();
+            patientRepository.findAllNames()
+                    .forEach(view -> indexPatient(view.patientId(), view.userId(), view.name()));
+            inMemory = true;
+            log.info("Patient name index built in memory for {} with {} patients", product, ownerByPatient.size());
+        } catch (Exception e) {
+            inMemory = false;
+            log.error("Failed to build in-memory patient name index. Searches will use the database", e);
+        }
+    }
+
+    public List<PatientSummaryDto> search(String userId, String name, int limit) {
+        String term = name == null ? "" : name.trim();
+        if (userId == null || term.isEmpty()) {
+            return List.of();
+        }
+
+        if (inMemory) {
+            PatientNameIndex nameIndex = indexesByUser.get(userId);
+            if (nameIndex == null) {
+                return List.of();
+            }
+            List<String> ids = nameIndex.search(term, limit);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            Map<String, PatientSummaryDto> patients = patientRepository.findSummariesByIdIn(ids).stream()
+                    .collect(Collectors.toMap(PatientSummaryDto::getId, Function.identity()));
+            return ids.stream().map(patients::get).filter(Objects::nonNull).toList();
+        }
+
+        String escaped = escapeLike(term.toLowerCase(Locale.ROOT));
+        String contains = term.length() < MIN_GRAM_LENGTH ? escaped + "%" : "%" + escaped + "%";
+        return patientRepository.searchByName(userId, contains, escaped + "%", "% " + escaped + "%",
+                Limit.of(limit));
+    }
+
+    public void indexed(Patient patient) {
+        if (inMemory) {
+            indexPatient(patient.getId(), patient.getUser_id(), patient.getName());
+        }
+    }
+
+    public void removed(String id) {
+        if (inMemory) {
+            String owner = ownerByPatient.remove(id);
+            if (owner != null) {
+                removeFromOwner(owner, id);
+            }
+        }
+    }
+
+    private void indexPatient(String patientId, String userId, String name) {
+        if (patientId == null || userId == null) {
+            return;
+        }
+        String previousOwner = ownerByPatient.put(patientId, userId);
+        if (previousOwner != null && !previousOwner.equals(userId)) {
+            removeFromOwner(previousOwner, patientId);
+        }
+        indexesByUser.computeIfAbsent(userId, key -> new PatientNameIndex()).put(patientId, name);
+    }
+
+    private void removeFromOwner(String userId, String patientId) {
+        PatientNameIndex nameIndex = indexesByUser.get(userId);
+        if (nameIndex != null) {
+            nameIndex.remove(patientId);
+        }
+    }
+
+    private void createTrigramIndexes() {
+        try {
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_patients_user_name_prefix "
+                    + "ON patients (user_id, lower(name) text_pattern_ops)");
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_patients_name_trgm "
+                    + "ON patients USING gin (lower(name) gin_trgm_ops)");
+            log.info("Patient name search indexes ready (pg_trgm)");
+        } catch (Exception e) {
+            log.warn("Could not create pg_trgm index for patient search, falling back to sequential LIKE: {}",
+                    e.getMessage());
+        }
+    }
+
+    private String databaseProductName() {
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        if (dataSource == null) {
+            return "";
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getDatabaseProductName();
+        } catch (Exception e) {
+            log.warn("Could not detect database product for patient search: {}", e.getMessage());
+            return "";
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,11 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+/**
+ * Projeção enxuta de um paciente para o índice de nomes em memória: apenas
+ * id, dono e nome, sem hidratar a entidade.
+ */
+public record PatientNameView(
+        String patientId,
+        String userId,
+        String name) {
+}
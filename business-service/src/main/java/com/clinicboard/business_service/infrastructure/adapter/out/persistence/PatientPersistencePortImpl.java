@@ -2,12 +2,17 @@ package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.clinicboard.business_service.application.dto.PatientRequestDto;
 import com.clinicboard.business_service.application.dto.PatientResponseDto;
+import com.clinicboard.business_service.application.dto.PatientSummaryDto;
 import com.clinicboard.business_service.application.port.out.PatientPersistencePort;
 import com.clinicboard.business_service.domain.model.Patient;
 import com.clinicboard.business_service.domain.service.PatientDomainService;
@@ -20,12 +25,17 @@ public class PatientPersistencePortImpl implements PatientPersistencePort {
     private final PatientRepository patientRepository;
     private final PatientMapper patientMapper;
     private final PatientDomainService patientDomainService;
+    private final PatientNameSearch patientNameSearch;
+    private final ResourceVersions resourceVersions;
 
     public PatientPersistencePortImpl(PatientRepository patientRepository, PatientMapper patientMapper,
-            PatientDomainService patientDomainService) {
+            PatientDomainService patientDomainService, PatientNameSearch patientNameSearch,
+            ResourceVersions resourceVersions) {
         this.patientRepository = patientRepository;
         this.patientMapper = patientMapper;
         this.patientDomainService = patientDomainService;
+        this.patientNameSearch = patientNameSearch;
+        this.resourceVersions = resourceVersions;
     }
 
     @Override
@@ -39,14 +49,21 @@ public class PatientPersistencePortImpl implements PatientPersistencePort {
         patientDomainService.validatePatientData(patientDomain);
 
         Patient savedPatient = patientRepository.save(patientDomain);
+        patientNameSearch.indexed(savedPatient);
         return patientMapper.toDto(savedPatient);
     }
 
     @Override
-    public List<PatientResponseDto> findAll() {
-        return patientRepository.findAll().stream()
-                .map(patientMapper::toDto)
-                .collect(Collectors.toList());
+    public List<PatientResponseDto> findAll(String after, int limit) {
+        return patientRepository.findPageAfter(after == null ? "" : after, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<PatientResponseDto> consumer) {
+        try (Stream<PatientResponseDto> patients = patientRepository.streamAll()) {
+            patients.forEach(consumer);
+        }
     }
 
     @Override
@@ -64,19 +81,25 @@ public class PatientPersistencePortImpl implements PatientPersistencePort {
 
         patientDomainService.validatePatientData(existingPatient);
 
-        return patientMapper.toDto(patientRepository.save(existingPatient));
+        Patient savedPatient = patientRepository.save(existingPatient);
+        patientNameSearch.indexed(savedPatient);
+        return patientMapper.toDto(savedPatient);
     }
 
     @Override
     public void delete(String id) {
         patientRepository.deleteById(id);
+        patientNameSearch.removed(id);
     }
 
     @Override
-    public List<PatientResponseDto> findPatientByName(String name) {
-        return patientRepository.findByNameContaining(name).stream()
-                .map(patientDomainService::convertToPatientResponseDto)
-                .collect(Collectors.toList());
+    public String patientsVersion(String userId) {
+        return resourceVersions.patientsETag(userId, () -> findByUserId(userId));
+    }
+
+    @Override
+    public List<PatientSummaryDto> findPatientByName(String userId, String name, int limit) {
+        return patientNameSearch.search(userId, name, limit);
     }
 
     @Override
@@ -86,6 +109,11 @@ public class PatientPersistencePortImpl implements PatientPersistencePort {
         return patientMapper.toDto(patient);
     }
 
+    @Override
+    public Optional<PatientResponseDto> findById(String id) {
+        return patientRepository.findById(id).map(patientMapper::toDto);
+    }
+
     @Override
     public PatientRepository getPatientRepository() {
         return this.patientRepository;
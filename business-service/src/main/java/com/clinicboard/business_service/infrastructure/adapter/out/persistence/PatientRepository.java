@@ -1,13 +1,23 @@
 package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
 
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.clinicboard.business_service.application.dto.PatientResponseDto;
+import com.clinicboard.business_service.application.dto.PatientSummaryDto;
 import com.clinicboard.business_service.domain.model.Patient;
 
+import jakarta.persistence.QueryHint;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PatientRepository extends JpaRepository<Patient, String> {
 
@@ -16,9 +26,40 @@ public interface PatientRepository extends JpaRepository<Patient, String> {
 
     Optional<Patient> findByEmail(String email);
 
-    // @Query("SELECT p FROM Patient p WHERE p.name LIKE %:name%")
-    // List<Patient> findPatientByName(String name);
-    List<Patient> findByNameContaining(String name);
+    // Busca por trecho do nome entre os pacientes do profissional, ordenada por relevância
+    @Query("SELECT new com.clinicboard.business_service.application.dto.PatientSummaryDto("
+            + "p.id, p.name, p.age, p.phone) "
+            + "FROM Patient p WHERE p.user_id = :userId AND LOWER(p.name) LIKE :contains ESCAPE '\\' "
+            + "ORDER BY CASE WHEN LOWER(p.name) LIKE :prefix ESCAPE '\\' THEN 0 "
+            + "WHEN LOWER(p.name) LIKE :wordPrefix ESCAPE '\\' THEN 1 ELSE 2 END, p.name, p.id")
+    List<PatientSummaryDto> searchByName(@Param("userId") String userId, @Param("contains") String contains,
+            @Param("prefix") String prefix, @Param("wordPrefix") String wordPrefix, Limit limit);
+
+    @Query("SELECT new com.clinicboard.business_service.application.dto.PatientSummaryDto("
+            + "p.id, p.name, p.age, p.phone) FROM Patient p WHERE p.id IN :ids")
+    List<PatientSummaryDto> findSummariesByIdIn(@Param("ids") Collection<String> ids);
+
+    // Apenas o necessário para o índice de nomes em memória (H2/desenvolvimento)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.clinicboard.business_service.infrastructure.adapter.out.persistence.PatientNameView("
+            + "p.id, p.user_id, p.name) FROM Patient p")
+    List<PatientNameView> findAllNames();
+
+    // Paginação por cursor (keyset): próxima página após o último id retornado
+    @Query("SELECT new com.clinicboard.business_service.application.dto.PatientResponseDto("
+            + "p.id, p.name, p.age, p.email, p.phone, p.additional_info, p.user_id) "
+            + "FROM Patient p WHERE p.id > :after ORDER BY p.id")
+    List<PatientResponseDto> findPageAfter(@Param("after") String after, Limit limit);
+
+    // Leitura contínua de toda a tabela, em lotes do tamanho do fetch size
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.clinicboard.business_service.application.dto.PatientResponseDto("
+            + "p.id, p.name, p.age, p.email, p.phone, p.additional_info, p.user_id) "
+            + "FROM Patient p ORDER BY p.id")
+    Stream<PatientResponseDto> streamAll();
 
 
 }
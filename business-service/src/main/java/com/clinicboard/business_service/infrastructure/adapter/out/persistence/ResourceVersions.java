@@ -0,0 +1,134 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.persistence;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * ETags das listagens consultadas com frequência pelo front: agenda do
+ * profissional em um dia e pacientes do profissional.
+ *
+ * O ETag é o SHA-256 do JSON da listagem, então é o mesmo em todas as réplicas
+ * e sobrevive a restarts e deploys. Ele fica em um cache limitado até a
+ * próxima escrita na chave (local ou de outra réplica, via
+ * ClusterCacheInvalidation) ou até o TTL do cache de agendas
+ * (app.cache.day-schedule.ttl), que cobre uma invalidação perdida.
+ *
+ * - Hit: o If-None-Match é comparado sem consultar o banco
+ * - Miss: a listagem é carregada só para calcular o hash; se a resposta for
+ * 200 ela é carregada de novo para o corpo (a agenda do dia sai do
+ * {@link DayScheduleCache}, os pacientes vêm do banco)
+ * - Escritas na agenda de "todos os dias" do profissional (exclusão de um
+ * paciente com agendamentos em cascata) descartam os ETags de todos os dias
+ * - Um cálculo concorrente com uma escrita não fica em cache: a geração
+ * global é conferida depois de gravar o ETag
+ */
+@Component
+public class ResourceVersions {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final ObjectMapper objectMapper;
+    private final AtomicLong generation = new AtomicLong();
+    private final Cache<String, String> etags;
+
+    public ResourceVersions(ObjectMapper objectMapper,
+            @Value("${app.cache.resource-versions.max-size:100000}") long maxSize,
+            @Value("${app.cache.day-schedule.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.etags = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, etags, "resource_etags");
+    }
+
+    public void appointmentsChanged(String userId, LocalDate date) {
+        if (userId != null && date != null) {
+            generation.incrementAndGet();
+            etags.invalidate(appointmentsKey(userId, date.toString()));
+        }
+    }
+
+    /**
+     * Invalida a agenda de todos os dias do profissional.
+     */
+    public void allAppointmentsChanged(String userId) {
+        if (userId != null) {
+            generation.incrementAndGet();
+            String prefix = appointmentsKey(userId, "");
+            etags.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    public void patientsChanged(String userId) {
+        if (userId != null) {
+            generation.incrementAndGet();
+            etags.invalidate(patientsKey(userId));
+        }
+    }
+
+    /**
+     * @param appointments carrega a agenda do dia, chamado apenas quando o ETag não está em cache
+     */
+    public String appointmentsETag(String userId, LocalDate date, Supplier<?> appointments) {
+        return etagOf(appointmentsKey(userId, String.valueOf(date)), "a", appointments);
+    }
+
+    /**
+     * @param patients carrega os pacientes, chamado apenas quando o ETag não está em cache
+     */
+    public String patientsETag(String userId, Supplier<?> patients) {
+        return etagOf(patientsKey(userId), "p", patients);
+    }
+
+    private String etagOf(String key, String kind, Supplier<?> content) {
+        String etag = etags.getIfPresent(key);
+        if (etag != null) {
+            return etag;
+        }
+
+        long observed = generation.get();
+        etag = "\"" + kind + "-" + digestOf(content.get()) + "\"";
+        etags.put(key, etag);
+        // Escrita durante o cálculo: o conteúdo lido pode ser anterior a ela
+        if (generation.get() != observed) {
+            etags.asMap().remove(key, etag);
+        }
+        return etag;
+    }
+
+    private String digestOf(Object content) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(content);
+            return HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(json), 0, 16);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Falha ao calcular o ETag", e);
+        }
+    }
+
+    private static String appointmentsKey(String userId, String day) {
+        return "a|" + userId + "|" + day;
+    }
+
+    private static String patientsKey(String userId) {
+        return "p|" + userId;
+    }
+}
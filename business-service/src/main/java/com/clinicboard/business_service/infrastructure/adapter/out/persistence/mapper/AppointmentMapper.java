@@ -18,6 +18,7 @@ public interface AppointmentMapper {
     AppointmentMapper INSTANCE = Mappers.getMapper(AppointmentMapper.class);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "reminderSentAt", ignore = true)
     @Mapping(target = "patient", source = "patient_id", qualifiedByName = "uuidToPatient")
     @Mapping(target = "hour", source = "hour", qualifiedByName = "stringToHour")
     @Mapping(target = "professionalId", source = "user_id", qualifiedByName = "stringToProfessionalId")
@@ -29,6 +30,7 @@ public interface AppointmentMapper {
     AppointmentResponseDto toDto(Appointment appointment);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "reminderSentAt", ignore = true)
     @Mapping(target = "patient", source = "patient_id", qualifiedByName = "uuidToPatient")
     @Mapping(target = "professionalId", source = "user_id", qualifiedByName = "stringToProfessionalId")
     @Mapping(target = "hour", source = "hour", qualifiedByName = "stringToHour")
@@ -1,37 +1,63 @@
 package com.clinicboard.business_service.infrastructure.adapter.out.quartz;
 
-import org.quartz.JobExecutionContext;
+import java.util.List;
 
-import java.time.Instant;
+import org.quartz.JobExecutionContext;
 
 import org.quartz.JobDataMap;
 import org.springframework.scheduling.quartz.QuartzJobBean;
-
-import com.clinicboard.business_service.application.dto.AppointmentReminderEvent;
-import com.clinicboard.business_service.application.port.out.EventPublisherGateway;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.clinicboard.business_service.domain.model.Appointment;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lembrete de um agendamento no motor Quartz (app.reminders.engine=quartz).
+ *
+ * O agendamento é travado (SKIP LOCKED, reminder_sent_at nulo) e o lembrete
+ * enviado e marcado na mesma transação, pelo {@link ReminderDelivery}. Um
+ * lembrete já enviado por outro motor (ex.: antes de trocar de sweeper/wheel
+ * para quartz) ou por outra execução do job não é enviado de novo.
+ */
+@Slf4j
 public class AppointmentReminderJob extends QuartzJobBean {
 
-    private final EventPublisherGateway eventPublisher;
+    private final AppointmentRepository appointmentRepository;
+    private final ReminderDelivery reminderDelivery;
+    private final TransactionTemplate transactionTemplate;
 
-    public AppointmentReminderJob(EventPublisherGateway eventPublisher) {
-        this.eventPublisher = eventPublisher;
+    public AppointmentReminderJob(AppointmentRepository appointmentRepository, ReminderDelivery reminderDelivery,
+            TransactionTemplate transactionTemplate) {
+        this.appointmentRepository = appointmentRepository;
+        this.reminderDelivery = reminderDelivery;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Override
     protected void executeInternal(JobExecutionContext context) {
         JobDataMap dataMap = context.getMergedJobDataMap();
         String appointmentId = dataMap.getString("appointmentId");
-        String patientId = dataMap.getString("patientId");
-        String professionalId = dataMap.getString("professionalId");
         String date = dataMap.getString("date");
         String hour = dataMap.getString("hour");
 
-        String message = String.format("Lembrete: Seu atendimento é amanhã às %s", hour);
-
-        AppointmentReminderEvent reminderEvent = new AppointmentReminderEvent(
-                appointmentId, patientId, professionalId, date, hour, message, Instant.now());
-
-        eventPublisher.publishAppointmentReminderNotification(reminderEvent);
+        transactionTemplate.executeWithoutResult(status -> {
+            // Ausente: excluído, já enviado ou sendo enviado por outra réplica
+            List<Appointment> unsent = appointmentRepository.lockUnsentReminders(List.of(appointmentId));
+            if (unsent.isEmpty()) {
+                log.debug("Reminder for appointment {} already sent or appointment gone, skipping", appointmentId);
+                return;
+            }
+
+            // Dados do job anteriores a uma remarcação: o job remarcado envia o lembrete
+            Appointment appointment = unsent.get(0);
+            if (!appointment.getDate().toString().equals(date) || !appointment.getHour().value().equals(hour)) {
+                log.debug("Reminder for appointment {} no longer matches its schedule, skipping", appointmentId);
+                return;
+            }
+
+            reminderDelivery.deliverOne(appointment);
+        });
     }
-}
\ No newline at end of file
+}
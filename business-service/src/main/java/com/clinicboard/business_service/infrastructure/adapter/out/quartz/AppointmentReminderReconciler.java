@@ -0,0 +1,120 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.quartz;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentRepository;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentSlotView;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reconstrói, na subida, os lembretes que faltam no job store a partir da
+ * tabela appointments (ex.: agendamentos criados enquanto o job store era em
+ * memória, ou antes de uma falha ao agendar o lembrete).
+ *
+ * - Lê os agendamentos de hoje em diante em uma única consulta de projeção e
+ * compara com as chaves de job já existentes, também lidas de uma vez
+ * - Lembretes cujo horário já passou não são recriados: podem já ter sido
+ * enviados antes do restart
+ * - Os faltantes vão para o Quartz em lotes via scheduleJobs; com replace,
+ * duas réplicas reconciliando ao mesmo tempo gravam o mesmo conteúdo
+ * - Jobs de lembrete sem agendamento correspondente (excluídos antes do
+ * cancelamento de lembretes existir) são removidos em lotes via deleteJobs
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${app.reminders.reconcile-on-startup:false} and '${app.reminders.engine:quartz}' == 'quartz'")
+public class AppointmentReminderReconciler {
+
+    private final Scheduler scheduler;
+    private final AppointmentRepository appointmentRepository;
+    private final int batchSize;
+
+    public AppointmentReminderReconciler(Scheduler scheduler, AppointmentRepository appointmentRepository,
+            @Value("${app.reminders.reconcile-batch-size:500}") int batchSize) {
+        this.scheduler = scheduler;
+        this.appointmentRepository = appointmentRepository;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        try {
+            Set<JobKey> existing = scheduler.getJobKeys(GroupMatcher.jobGroupEquals(JobKey.DEFAULT_GROUP));
+            List<AppointmentSlotView> appointments = appointmentRepository.findSlotsFrom(LocalDate.now(
+                    AppointmentReminderScheduler.ZONE));
+            int rebuilt = rebuild(existing, appointments, Instant.now());
+            int pruned = prune(existing, appointments);
+            log.info("Reminder reconciliation finished. {} missing reminder(s) rebuilt, {} orphan(s) removed",
+                    rebuilt, pruned);
+        } catch (Exception e) {
+            log.error("Reminder reconciliation failed", e);
+        }
+    }
+
+    private int rebuild(Set<JobKey> existing, List<AppointmentSlotView> appointments, Instant now)
+            throws SchedulerException {
+        Map<JobDetail, Set<? extends Trigger>> batch = new HashMap<>();
+        int rebuilt = 0;
+        for (AppointmentSlotView appointment : appointments) {
+            Instant reminderInstant = AppointmentReminderScheduler.reminderInstant(appointment.date(),
+                    appointment.hour());
+            if (!reminderInstant.isAfter(now)
+                    || existing.contains(AppointmentReminderScheduler.jobKeyOf(appointment.appointmentId()))) {
+                continue;
+            }
+            batch.put(AppointmentReminderScheduler.reminderJob(appointment.appointmentId(), appointment.patientId(),
+                    appointment.professionalId(), appointment.date(), appointment.hour()),
+                    Set.of(AppointmentReminderScheduler.reminderTrigger(appointment.appointmentId(), reminderInstant)));
+            if (batch.size() == batchSize) {
+                rebuilt += flush(batch);
+                batch = new HashMap<>();
+            }
+        }
+        return rebuilt + flush(batch);
+    }
+
+    private int prune(Set<JobKey> existing, List<AppointmentSlotView> appointments) throws SchedulerException {
+        Set<JobKey> live = new HashSet<>();
+        appointments.forEach(appointment -> live.add(AppointmentReminderScheduler.jobKeyOf(
+                appointment.appointmentId())));
+
+        List<JobKey> orphans = new ArrayList<>();
+        for (JobKey jobKey : existing) {
+            if (jobKey.getName().startsWith(AppointmentReminderScheduler.JOB_PREFIX) && !live.contains(jobKey)) {
+                orphans.add(jobKey);
+            }
+        }
+        for (int from = 0; from < orphans.size(); from += batchSize) {
+            scheduler.deleteJobs(orphans.subList(from, Math.min(from + batchSize, orphans.size())));
+        }
+        return orphans.size();
+    }
+
+    private int flush(Map<JobDetail, Set<? extends Trigger>> batch) throws SchedulerException {
+        int size = batch.size();
+        if (size > 0) {
+            scheduler.scheduleJobs(batch, true);
+        }
+        return size;
+    }
+}
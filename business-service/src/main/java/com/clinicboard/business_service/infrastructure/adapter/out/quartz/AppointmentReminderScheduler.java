@@ -1,48 +1,127 @@
 package com.clinicboard.business_service.infrastructure.adapter.out.quartz;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
 
 import org.quartz.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
+import com.clinicboard.business_service.application.port.out.ReminderSchedulerPort;
 
 @Service
-public class AppointmentReminderScheduler {
+@ConditionalOnProperty(name = "app.reminders.engine", havingValue = "quartz", matchIfMissing = true)
+public class AppointmentReminderScheduler implements ReminderSchedulerPort {
+
+        static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+        static final String JOB_PREFIX = "reminder-";
 
         @Autowired
         private Scheduler scheduler;
 
-        public void scheduleReminder(AppointmentResponseDto appointment) throws SchedulerException {
-                JobDetail jobDetail = JobBuilder.newJob(AppointmentReminderJob.class)
-                                .withIdentity("reminder-" + appointment.getId())
-                                .usingJobData("appointmentId", appointment.getId())
-                                .usingJobData("patientId", appointment.getPatient_id())
-                                .usingJobData("professionalId", appointment.getUser_id())
-                                .usingJobData("date", appointment.getDate().toString())
-                                .usingJobData("hour", appointment.getHour())
-                                .build();
+        @Override
+        public void scheduleReminder(AppointmentResponseDto appointment) {
+                JobDetail jobDetail = reminderJob(appointment.getId(), appointment.getPatient_id(),
+                                appointment.getUser_id(), appointment.getDate(), appointment.getHour());
+
+                // Para testes, troque por Instant.now().plusSeconds(60) para disparar em 1 minuto
+                Instant reminderInstant = reminderInstant(appointment.getDate(), appointment.getHour());
+
+                try {
+                        scheduler.scheduleJob(jobDetail, reminderTrigger(appointment.getId(), reminderInstant));
+                } catch (SchedulerException e) {
+                        throw new RuntimeException("Falha ao agendar lembrete Quartz: " + e.getMessage(), e);
+                }
+        }
 
-                // Calcula exatamente 24 horas antes do agendamento
-                LocalDateTime appointmentDateTime = appointment.getDate()
-                                .atTime(LocalTime.parse(appointment.getHour()));
-                LocalDateTime reminderDateTime = appointmentDateTime.minusHours(24);
+        /**
+         * Substitui job (dados do lembrete) e trigger (novo horário) de uma vez.
+         * Se o lembrete anterior já disparou, o job não existe mais e é recriado.
+         */
+        @Override
+        public void rescheduleReminder(AppointmentResponseDto appointment) {
+                JobDetail jobDetail = reminderJob(appointment.getId(), appointment.getPatient_id(),
+                                appointment.getUser_id(), appointment.getDate(), appointment.getHour());
+                Instant reminderInstant = reminderInstant(appointment.getDate(), appointment.getHour());
 
-                // Para testes, descomente a linha abaixo para disparar em 1 minuto
-                // LocalDateTime reminderDateTime = LocalDateTime.now().plusMinutes(1);
+                try {
+                        scheduler.scheduleJob(jobDetail, Set.of(reminderTrigger(appointment.getId(), reminderInstant)),
+                                        true);
+                } catch (SchedulerException e) {
+                        throw new RuntimeException("Falha ao reagendar lembrete Quartz: " + e.getMessage(), e);
+                }
+        }
 
-                ZonedDateTime zonedDateTime = reminderDateTime.atZone(ZoneId.of("America/Sao_Paulo"));
+        // deleteJob também remove o trigger; um job inexistente é ignorado
+        @Override
+        public void cancelReminder(String appointmentId) {
+                try {
+                        scheduler.deleteJob(jobKeyOf(appointmentId));
+                } catch (SchedulerException e) {
+                        throw new RuntimeException("Falha ao cancelar lembrete Quartz: " + e.getMessage(), e);
+                }
+        }
 
-                Trigger trigger = TriggerBuilder.newTrigger()
-                                .withIdentity("trigger-" + appointment.getId())
-                                .startAt(Date.from(zonedDateTime.toInstant()))
+        /**
+         * Uma única chamada deleteJobs (uma transação no job store JDBC) em vez
+         * de uma por agendamento.
+         */
+        @Override
+        public void cancelReminders(Collection<String> appointmentIds) {
+                if (appointmentIds.isEmpty()) {
+                        return;
+                }
+                List<JobKey> jobKeys = appointmentIds.stream().map(AppointmentReminderScheduler::jobKeyOf).toList();
+                try {
+                        scheduler.deleteJobs(jobKeys);
+                } catch (SchedulerException e) {
+                        throw new RuntimeException("Falha ao cancelar lembretes Quartz: " + e.getMessage(), e);
+                }
+        }
+
+        /**
+         * Exatamente 24 horas antes do agendamento, no fuso da clínica.
+         */
+        static Instant reminderInstant(LocalDate date, String hour) {
+                LocalDateTime appointmentDateTime = date.atTime(LocalTime.parse(hour));
+                return appointmentDateTime.minusHours(24).atZone(ZONE).toInstant();
+        }
+
+        static JobKey jobKeyOf(String appointmentId) {
+                return JobKey.jobKey(JOB_PREFIX + appointmentId);
+        }
+
+        // requestRecovery: no modo cluster, se a réplica cair durante a execução
+        // outra réplica executa o job novamente
+        static JobDetail reminderJob(String appointmentId, String patientId, String professionalId,
+                        LocalDate date, String hour) {
+                return JobBuilder.newJob(AppointmentReminderJob.class)
+                                .withIdentity(jobKeyOf(appointmentId))
+                                .usingJobData("appointmentId", appointmentId)
+                                .usingJobData("patientId", patientId)
+                                .usingJobData("professionalId", professionalId)
+                                .usingJobData("date", date.toString())
+                                .usingJobData("hour", hour)
+                                .requestRecovery(true)
                                 .build();
+        }
 
-                scheduler.scheduleJob(jobDetail, trigger);
+        // Misfire (scheduler parado no horário do lembrete): dispara assim que voltar
+        static Trigger reminderTrigger(String appointmentId, Instant reminderInstant) {
+                return TriggerBuilder.newTrigger()
+                                .withIdentity("trigger-" + appointmentId)
+                                .startAt(Date.from(reminderInstant))
+                                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                                                .withMisfireHandlingInstructionFireNow())
+                                .build();
         }
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.quartz;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
+import com.clinicboard.business_service.application.port.out.ReminderSchedulerPort;
+import com.clinicboard.business_service.domain.model.Appointment;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Motor de lembretes por varredura (app.reminders.engine=sweeper).
+ *
+ * Em vez de um JobDetail + Trigger por agendamento, um único job recorrente
+ * busca a cada app.reminders.sweeper.interval-ms, em uma consulta por
+ * intervalo, os agendamentos que começam nas próximas 24 horas e ainda não
+ * tiveram lembrete enviado. A memória usada não depende da quantidade de
+ * agendamentos futuros, apenas do tamanho do lote.
+ *
+ * - Cada lote é travado (SKIP LOCKED), publicado de uma vez e marcado com
+ * reminder_sent_at na mesma transação, só para os lembretes confirmados
+ * pelo broker; os demais voltam na próxima varredura
+ * - Agendamentos criados com menos de 24 horas de antecedência recebem o
+ * lembrete na varredura seguinte, como o trigger vencido do Quartz
+ * - Remarcar o horário limpa reminder_sent_at, gerando um novo lembrete
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.reminders.engine", havingValue = "sweeper")
+public class AppointmentReminderSweeper implements ReminderSchedulerPort {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final AppointmentRepository appointmentRepository;
+    private final ReminderDelivery reminderDelivery;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public AppointmentReminderSweeper(AppointmentRepository appointmentRepository,
+            ReminderDelivery reminderDelivery, TransactionTemplate transactionTemplate,
+            @Value("${app.reminders.sweeper.batch-size:500}") int batchSize) {
+        this.appointmentRepository = appointmentRepository;
+        this.reminderDelivery = reminderDelivery;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Nada a agendar: o agendamento já está na tabela que a varredura consulta.
+     */
+    @Override
+    public void scheduleReminder(AppointmentResponseDto appointment) {
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminders.sweeper.interval-ms:60000}")
+    public void sweep() {
+        ZonedDateTime now = ZonedDateTime.now(AppointmentReminderScheduler.ZONE);
+        try {
+            // Lote cheio e todo confirmado: pode haver mais lembretes devidos
+            boolean more = true;
+            while (more) {
+                more = Boolean.TRUE.equals(transactionTemplate.execute(status -> sweepBatch(now)));
+            }
+        } catch (Exception e) {
+            log.error("Reminder sweep failed, retrying on next cycle", e);
+        }
+    }
+
+    private boolean sweepBatch(ZonedDateTime now) {
+        LocalDate today = now.toLocalDate();
+        List<Appointment> due = appointmentRepository.lockDueReminders(today, today.plusDays(1),
+                now.format(TIME_FORMAT), Limit.of(batchSize));
+        if (due.isEmpty()) {
+            return false;
+        }
+
+        List<String> sent = reminderDelivery.deliver(due);
+        log.debug("Reminder sweep sent {} of {} due reminder(s)", sent.size(), due.size());
+        return due.size() == batchSize && sent.size() == due.size();
+    }
+}
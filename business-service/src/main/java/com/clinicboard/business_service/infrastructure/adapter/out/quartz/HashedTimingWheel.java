@@ -0,0 +1,140 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.quartz;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel (Varghese &amp; Lauck): um array circular de buckets em
+ * que cada bucket cobre um tick. Um item com prazo além de uma volta guarda
+ * quantas voltas ainda faltam, então o horizonte não depende do tamanho do
+ * array.
+ *
+ * - schedule e cancel são O(1): cálculo do bucket e inserção/remoção em lista
+ * duplamente ligada, com um mapa chave -> item para o cancelamento
+ * - expire avança o relógio até o instante informado e devolve os itens
+ * vencidos, percorrendo só os buckets dos ticks que passaram
+ * - Os itens vencem no primeiro tick igual ou posterior ao prazo (nunca antes)
+ *
+ * O tempo é sempre informado por quem chama (epoch millis), o que mantém a
+ * estrutura determinística. Os métodos são sincronizados: a escrita vem das
+ * requisições e a leitura de uma única thread de ticks.
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final Entry<T>[] buckets;
+    private final Map<String, Entry<T>> entries = new HashMap<>();
+
+    // Próximo tick a ser processado por expire
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new Entry[wheelSize];
+    }
+
+    /**
+     * Agenda (ou reagenda, se a chave já existir) o item para o prazo informado.
+     * Prazos já vencidos saem no próximo expire.
+     */
+    public synchronized void schedule(String key, long deadlineMillis, T payload) {
+        cancel(key);
+        long deadlineTick = Math.max(tick, ceilDiv(deadlineMillis - startMillis, tickMillis));
+        Entry<T> entry = new Entry<>(key, payload, (deadlineTick - tick) / buckets.length);
+        link(entry, (int) (deadlineTick & mask));
+        entries.put(key, entry);
+    }
+
+    public synchronized boolean cancel(String key) {
+        Entry<T> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    public synchronized boolean contains(String key) {
+        return entries.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Processa os ticks até o instante informado e devolve os itens vencidos.
+     */
+    public synchronized List<T> expire(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        for (; tick <= targetTick; tick++) {
+            int index = (int) (tick & mask);
+            Entry<T> entry = buckets[index];
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                if (entry.remainingRounds <= 0) {
+                    unlink(entry);
+                    entries.remove(entry.key);
+                    expired.add(entry.payload);
+                } else {
+                    entry.remainingRounds--;
+                }
+                entry = next;
+            }
+        }
+        return expired;
+    }
+
+    private void link(Entry<T> entry, int index) {
+        entry.bucket = index;
+        entry.next = buckets[index];
+        if (entry.next != null) {
+            entry.next.prev = entry;
+        }
+        buckets[index] = entry;
+    }
+
+    private void unlink(Entry<T> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            buckets[entry.bucket] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    private static final class Entry<T> {
+
+        private final String key;
+        private final T payload;
+        private long remainingRounds;
+        private int bucket;
+        private Entry<T> prev;
+        private Entry<T> next;
+
+        private Entry(String key, T payload, long remainingRounds) {
+            this.key = key;
+            this.payload = payload;
+            this.remainingRounds = remainingRounds;
+        }
+    }
+}
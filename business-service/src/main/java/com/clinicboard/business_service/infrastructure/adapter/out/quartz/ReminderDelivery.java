@@ -0,0 +1,68 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.quartz;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.clinicboard.business_service.application.dto.AppointmentReminderEvent;
+import com.clinicboard.business_service.application.port.out.EventPublisherGateway;
+import com.clinicboard.business_service.domain.model.Appointment;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentRepository;
+
+/**
+ * Envio dos lembretes de agendamentos já travados pelo chamador
+ * (SELECT ... FOR UPDATE na transação corrente), gravando reminder_sent_at
+ * na mesma transação. Todos os motores de lembrete passam por aqui, então
+ * trocar app.reminders.engine não reenvia lembretes já enviados.
+ */
+@Component
+public class ReminderDelivery {
+
+    private final AppointmentRepository appointmentRepository;
+    private final EventPublisherGateway eventPublisher;
+
+    public ReminderDelivery(AppointmentRepository appointmentRepository, EventPublisherGateway eventPublisher) {
+        this.appointmentRepository = appointmentRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Publica todos de uma vez e marca apenas os confirmados pelo broker.
+     *
+     * @return ids dos agendamentos cujo lembrete foi enviado
+     */
+    public List<String> deliver(List<Appointment> appointments) {
+        if (appointments.isEmpty()) {
+            return List.of();
+        }
+        List<AppointmentReminderEvent> events = appointments.stream()
+                .map(ReminderDelivery::reminderEventOf)
+                .toList();
+        List<String> sent = eventPublisher.publishAppointmentReminderNotifications(events);
+        if (!sent.isEmpty()) {
+            appointmentRepository.markRemindersSent(sent, Instant.now());
+        }
+        return sent;
+    }
+
+    /**
+     * Lembrete de um único agendamento (job do Quartz), com o retry e a DLQ
+     * do publicador. Como o job não é repetido, o lembrete também é marcado
+     * quando vai para a DLQ ou fica sem confirm; só uma exceção da publicação
+     * deixa reminder_sent_at nulo.
+     */
+    public void deliverOne(Appointment appointment) {
+        eventPublisher.publishAppointmentReminderNotification(reminderEventOf(appointment));
+        appointmentRepository.markRemindersSent(List.of(appointment.getId()), Instant.now());
+    }
+
+    private static AppointmentReminderEvent reminderEventOf(Appointment appointment) {
+        return AppointmentReminderEvent.of(
+                appointment.getId(),
+                appointment.getPatient().getId(),
+                appointment.getProfessionalId().value(),
+                appointment.getDate().toString(),
+                appointment.getHour().value());
+    }
+}
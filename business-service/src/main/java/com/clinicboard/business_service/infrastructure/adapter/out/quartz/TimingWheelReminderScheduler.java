@@ -0,0 +1,247 @@
+package com.clinicboard.business_service.infrastructure.adapter.out.quartz;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
+import com.clinicboard.business_service.application.port.out.ReminderSchedulerPort;
+import com.clinicboard.business_service.domain.model.Appointment;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentRepository;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentSlotView;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Motor de lembretes em memória (app.reminders.engine=wheel), com precisão
+ * de um tick (app.reminders.wheel.tick, padrão 100ms) sem varrer o banco a
+ * cada disparo.
+ *
+ * Só os lembretes que vencem dentro do horizonte (app.reminders.wheel.horizon,
+ * padrão 48h) ficam na {@link HashedTimingWheel}:
+ * - a carga inicial e o refill periódico (refill-interval, padrão 1h) trazem
+ * do banco os agendamentos com lembrete pendente que entraram no horizonte
+ * - create/update/delete em AppointmentUseCases agendam, movem ou cancelam o
+ * item em O(1)
+ *
+ * A tabela appointments continua sendo a fonte persistente: nada se perde em
+ * um restart e, no disparo, o lembrete é confirmado no banco (FOR UPDATE
+ * SKIP LOCKED, reminder_sent_at nulo e mesmo dia/horário). Assim, com várias
+ * réplicas, cada lembrete sai uma única vez, e itens desatualizados em outra
+ * réplica (agendamento remarcado ou excluído) são descartados. Lembretes não
+ * confirmados pelo broker voltam para a roda após retry-delay.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.reminders.engine", havingValue = "wheel")
+public class TimingWheelReminderScheduler implements ReminderSchedulerPort {
+
+    private static final int WHEEL_SIZE = 4096;
+
+    private final AppointmentRepository appointmentRepository;
+    private final ReminderDelivery reminderDelivery;
+    private final TransactionTemplate transactionTemplate;
+    private final HashedTimingWheel<AppointmentSlotView> wheel;
+    private final Duration tick;
+    private final Duration horizon;
+    private final Duration retryDelay;
+    private final int batchSize;
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("reminder-dispatch").daemon().factory());
+
+    private volatile boolean running;
+    private Thread tickThread;
+
+    public TimingWheelReminderScheduler(AppointmentRepository appointmentRepository,
+            ReminderDelivery reminderDelivery, TransactionTemplate transactionTemplate,
+            @Value("${app.reminders.wheel.tick:100ms}") Duration tick,
+            @Value("${app.reminders.wheel.horizon:48h}") Duration horizon,
+            @Value("${app.reminders.wheel.retry-delay:30s}") Duration retryDelay,
+            @Value("${app.reminders.wheel.batch-size:500}") int batchSize,
+            MeterRegistry meterRegistry) {
+        this.appointmentRepository = appointmentRepository;
+        this.reminderDelivery = reminderDelivery;
+        this.transactionTemplate = transactionTemplate;
+        this.tick = tick;
+        this.horizon = horizon;
+        this.retryDelay = retryDelay;
+        this.batchSize = batchSize;
+        this.wheel = new HashedTimingWheel<>(tick.toMillis(), WHEEL_SIZE, System.currentTimeMillis());
+        meterRegistry.gauge("business.reminders.wheel.pending", wheel, HashedTimingWheel::size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refill();
+        running = true;
+        tickThread = Thread.ofPlatform().name("reminder-wheel").daemon().start(this::runTicks);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (tickThread != null) {
+            tickThread.interrupt();
+        }
+        dispatcher.shutdown();
+    }
+
+    @Override
+    public void scheduleReminder(AppointmentResponseDto appointment) {
+        afterCommit(() -> schedule(appointment));
+    }
+
+    @Override
+    public void rescheduleReminder(AppointmentResponseDto appointment) {
+        afterCommit(() -> schedule(appointment));
+    }
+
+    @Override
+    public void cancelReminder(String appointmentId) {
+        afterCommit(() -> wheel.cancel(appointmentId));
+    }
+
+    private void schedule(AppointmentResponseDto appointment) {
+        Instant reminderInstant = AppointmentReminderScheduler.reminderInstant(appointment.getDate(),
+                appointment.getHour());
+        // Além do horizonte: fica só no banco até um refill trazê-lo
+        if (reminderInstant.isBefore(Instant.now().plus(horizon))) {
+            wheel.schedule(appointment.getId(), reminderInstant.toEpochMilli(), new AppointmentSlotView(
+                    appointment.getId(), appointment.getUser_id(), appointment.getPatient_id(),
+                    appointment.getDate(), appointment.getHour()));
+        } else {
+            wheel.cancel(appointment.getId());
+        }
+    }
+
+    // Um lembrete vencido antes do commit não seria encontrado no disparo
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Traz para a roda os lembretes pendentes cujo disparo entrou no horizonte.
+     * Agendamentos que começam em até 24h com lembrete ainda pendente vencem
+     * de imediato, como o trigger atrasado do Quartz.
+     */
+    @Scheduled(initialDelayString = "${app.reminders.wheel.refill-interval-ms:3600000}",
+            fixedDelayString = "${app.reminders.wheel.refill-interval-ms:3600000}")
+    public void refill() {
+        try {
+            Instant now = Instant.now();
+            Instant limit = now.plus(horizon);
+            LocalDate today = LocalDate.now(AppointmentReminderScheduler.ZONE);
+            // Disparo até now + horizon => atendimento até now + horizon + 24h
+            LocalDate lastDay = limit.plus(Duration.ofHours(24)).atZone(AppointmentReminderScheduler.ZONE)
+                    .toLocalDate();
+
+            int loaded = 0;
+            for (AppointmentSlotView slot : appointmentRepository.findUnsentReminderSlots(today, lastDay)) {
+                Instant reminderInstant = AppointmentReminderScheduler.reminderInstant(slot.date(), slot.hour());
+                Instant startInstant = reminderInstant.plus(Duration.ofHours(24));
+                if (startInstant.isAfter(now) && reminderInstant.isBefore(limit)) {
+                    wheel.schedule(slot.appointmentId(), reminderInstant.toEpochMilli(), slot);
+                    loaded++;
+                }
+            }
+            log.info("Reminder wheel refilled with {} pending reminder(s)", loaded);
+        } catch (Exception e) {
+            log.error("Reminder wheel refill failed, retrying on next cycle", e);
+        }
+    }
+
+    private void runTicks() {
+        while (running) {
+            try {
+                Thread.sleep(tick);
+                List<AppointmentSlotView> expired = wheel.expire(System.currentTimeMillis());
+                if (!expired.isEmpty()) {
+                    dispatcher.execute(() -> dispatch(expired));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Reminder wheel tick failed", e);
+            }
+        }
+    }
+
+    /**
+     * Envia os lembretes vencidos, em lotes, depois de confirmá-los no banco.
+     */
+    private void dispatch(List<AppointmentSlotView> expired) {
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            List<AppointmentSlotView> batch = expired.subList(from, Math.min(from + batchSize, expired.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> dispatchBatch(batch));
+            } catch (Exception e) {
+                log.error("Failed to dispatch {} reminder(s). Retrying in {}", batch.size(), retryDelay, e);
+                retryLater(batch);
+            }
+        }
+    }
+
+    private void dispatchBatch(List<AppointmentSlotView> batch) {
+        Map<String, AppointmentSlotView> expected = batch.stream()
+                .collect(Collectors.toMap(AppointmentSlotView::appointmentId, Function.identity(), (a, b) -> b));
+
+        // Ausentes aqui: excluídos, já enviados ou sendo enviados por outra réplica
+        List<Appointment> current = new ArrayList<>();
+        for (Appointment appointment : appointmentRepository.lockUnsentReminders(expected.keySet())) {
+            AppointmentSlotView slot = expected.get(appointment.getId());
+            if (Objects.equals(slot.date(), appointment.getDate())
+                    && Objects.equals(slot.hour(), appointment.getHour().value())) {
+                current.add(appointment);
+            }
+        }
+
+        List<String> sent = reminderDelivery.deliver(current);
+        if (sent.size() < current.size()) {
+            Map<String, AppointmentSlotView> failed = new HashMap<>();
+            current.forEach(appointment -> failed.put(appointment.getId(), expected.get(appointment.getId())));
+            sent.forEach(failed::remove);
+            retryLater(failed.values());
+        }
+    }
+
+    private void retryLater(Iterable<AppointmentSlotView> slots) {
+        long retryAt = System.currentTimeMillis() + retryDelay.toMillis();
+        for (AppointmentSlotView slot : slots) {
+            if (!wheel.contains(slot.appointmentId())) {
+                wheel.schedule(slot.appointmentId(), retryAt, slot);
+            }
+        }
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * Configuração do RabbitMQ para eventos de agendamento (PRODUCER)
  * 
@@ -16,8 +18,10 @@ import org.springframework.context.annotation.Configuration;
  * - Configurar o RabbitTemplate para publicação
  * - Definir routing keys para publicação
  * 
- * As filas específicas são responsabilidade dos consumidores.
+ * As filas específicas são responsabilidade dos consumidores. A exceção é a
+ * fila anônima de invalidação de cache, consumida pela própria réplica.
  */
+@Slf4j
 @Configuration
 public class RabbitMQConfig {
 
@@ -25,6 +29,10 @@ public class RabbitMQConfig {
     @Value("${app.messaging.exchange.events}")
     private String eventsExchange;
 
+    // Invalidação de cache entre réplicas
+    @Value("${app.messaging.exchange.cache-invalidation}")
+    private String cacheInvalidationExchange;
+
     // DLQ Configuration
     @Value("${app.messaging.dlq.exchange.events.dlq}")
     private String dlqExchange;
@@ -70,6 +78,30 @@ public class RabbitMQConfig {
                 .build();
     }
 
+    /**
+     * Exchange fanout para invalidação de cache entre as réplicas do serviço
+     */
+    @Bean
+    public FanoutExchange cacheInvalidationExchange() {
+        return ExchangeBuilder
+                .fanoutExchange(cacheInvalidationExchange)
+                .durable(true)
+                .build();
+    }
+
+    /**
+     * Fila exclusiva desta réplica (removida quando a conexão fecha)
+     */
+    @Bean
+    public Queue cacheInvalidationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding cacheInvalidationBinding() {
+        return BindingBuilder.bind(cacheInvalidationQueue()).to(cacheInvalidationExchange());
+    }
+
     /**
      * RabbitTemplate configurado para publicação de eventos
      * Usa conversor JSON para serialização automática dos eventos
@@ -79,6 +111,10 @@ public class RabbitMQConfig {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(new Jackson2JsonMessageConverter());
         template.setMandatory(true); // Garante que mensagens sejam roteadas
+        // Com confirms correlacionados o return também chega ao CorrelationData de quem publicou
+        template.setReturnsCallback(returned -> log.warn(
+                "Message returned by broker: exchange={}, routingKey={}, reply={} {}",
+                returned.getExchange(), returned.getRoutingKey(), returned.getReplyCode(), returned.getReplyText()));
         template.setExchange(eventsExchange); // Exchange padrão para publicação
         return template;
     }
@@ -0,0 +1,106 @@
+package com.clinicboard.business_service.infrastructure.config.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Grade fixa de horários de atendimento (08:00 às 21:00, de hora em hora).
+ *
+ * Cada horário cheio é mapeado para um índice de 0 a 13, permitindo
+ * representar a ocupação de um dia inteiro em um único int (bitmask).
+ * As strings dos horários são criadas uma única vez e as listas de horários
+ * livres são memorizadas por bitmask, já que existem apenas 2^14 combinações.
+ */
+public final class HourSlots {
+
+    public static final int FIRST_HOUR = 8;
+    public static final int LAST_HOUR = 21;
+    public static final int SLOT_COUNT = LAST_HOUR - FIRST_HOUR + 1;
+    public static final int FULL_MASK = (1 << SLOT_COUNT) - 1;
+
+    private static final String[] HOURS = new String[SLOT_COUNT];
+    private static final List<String> ALL_HOURS;
+    private static final AtomicReferenceArray<List<String>> FREE_HOURS_BY_MASK = new AtomicReferenceArray<>(
+            FULL_MASK + 1);
+
+    static {
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            int hour = FIRST_HOUR + i;
+            HOURS[i] = ((hour < 10 ? "0" : "") + hour + ":00").intern();
+        }
+        ALL_HOURS = List.of(HOURS);
+    }
+
+    private HourSlots() {
+    }
+
+    /**
+     * Todos os horários da grade, em ordem ("08:00" ... "21:00"). Lista imutável.
+     */
+    public static List<String> allHours() {
+        return ALL_HOURS;
+    }
+
+    /**
+     * Converte "HH:00" no índice do slot correspondente.
+     *
+     * @return índice entre 0 e {@link #SLOT_COUNT} - 1, ou -1 se o horário não
+     *         pertence à grade (ex.: "08:30" ou fora do expediente)
+     */
+    public static int indexOf(String hour) {
+        if (hour == null || hour.length() != 5 || hour.charAt(2) != ':'
+                || hour.charAt(3) != '0' || hour.charAt(4) != '0') {
+            return -1;
+        }
+        int tens = hour.charAt(0) - '0';
+        int units = hour.charAt(1) - '0';
+        if (tens < 0 || tens > 9 || units < 0 || units > 9) {
+            return -1;
+        }
+        int value = tens * 10 + units;
+        if (value < FIRST_HOUR || value > LAST_HOUR) {
+            return -1;
+        }
+        return value - FIRST_HOUR;
+    }
+
+    /**
+     * Bit que representa o slot no bitmask de ocupação do dia.
+     */
+    public static int bitOf(int slotIndex) {
+        return 1 << slotIndex;
+    }
+
+    /**
+     * Acrescenta o horário ao bitmask de ocupação. Horários fora da grade são
+     * ignorados.
+     */
+    public static int occupy(int mask, String hour) {
+        int slot = indexOf(hour);
+        return slot < 0 ? mask : mask | bitOf(slot);
+    }
+
+    /**
+     * Horários livres para o bitmask de ocupação informado. Lista imutável e
+     * compartilhada entre chamadas.
+     */
+    public static List<String> freeHours(int occupiedMask) {
+        int mask = occupiedMask & FULL_MASK;
+        List<String> cached = FREE_HOURS_BY_MASK.get(mask);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<String> free = new ArrayList<>(SLOT_COUNT - Integer.bitCount(mask));
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            if ((mask & bitOf(i)) == 0) {
+                free.add(HOURS[i]);
+            }
+        }
+        List<String> immutable = Collections.unmodifiableList(free);
+        FREE_HOURS_BY_MASK.compareAndSet(mask, null, immutable);
+        return FREE_HOURS_BY_MASK.get(mask);
+    }
+}
@@ -26,12 +26,7 @@ public class Utils {
     }
 
     public static List<String> generateAllHours() {
-        List<String> hours = new ArrayList<>();
-        for (int i = 8; i <= 21; i++) {
-            String hour = String.format("%02d:00", i);
-            hours.add(hour);
-        }
-        return hours;
+        return new ArrayList<>(HourSlots.allHours());
     }
 
 }
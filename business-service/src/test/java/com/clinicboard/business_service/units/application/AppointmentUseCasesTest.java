@@ -3,13 +3,15 @@ package com.clinicboard.business_service.units.application;
 import com.clinicboard.business_service.application.dto.AppointmentRequestDto;
 import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
 import com.clinicboard.business_service.application.port.out.AppointmentPersistencePort;
+import com.clinicboard.business_service.application.port.out.CacheInvalidationPort;
 import com.clinicboard.business_service.application.port.out.EventPublisherGateway;
+import com.clinicboard.business_service.application.port.out.ReminderSchedulerPort;
 import com.clinicboard.business_service.application.usecase.AppointmentUseCases;
+import com.clinicboard.business_service.domain.event.AppointmentCanceledEvent;
 import com.clinicboard.business_service.domain.event.AppointmentScheduledEvent;
 import com.clinicboard.business_service.domain.model.AppointmentType;
 import com.clinicboard.business_service.domain.service.AppointmentSchedulingService;
 import com.clinicboard.business_service.infrastructure.adapter.in.web.exception.BusinessException;
-import com.clinicboard.business_service.infrastructure.adapter.out.quartz.AppointmentReminderScheduler;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +23,8 @@ import org.mockito.Mockito;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,15 +37,17 @@ class AppointmentUseCasesTest {
     private EventPublisherGateway eventPublisher;
     private AppointmentSchedulingService appointmentSchedulingService;
     private AppointmentUseCases appointmentUseCases;
-    private AppointmentReminderScheduler appointmentReminderScheduler;
+    private ReminderSchedulerPort reminderScheduler;
+    private CacheInvalidationPort cacheInvalidation;
 
     @BeforeEach
     void setUp() {
         appointmentPersistencePort = Mockito.mock(AppointmentPersistencePort.class);
         eventPublisher = Mockito.mock(EventPublisherGateway.class);
         appointmentSchedulingService = Mockito.mock(AppointmentSchedulingService.class);
-        appointmentReminderScheduler = Mockito.mock(AppointmentReminderScheduler.class);
-        appointmentUseCases = new AppointmentUseCases(appointmentPersistencePort, eventPublisher, appointmentReminderScheduler, appointmentSchedulingService);
+        reminderScheduler = Mockito.mock(ReminderSchedulerPort.class);
+        cacheInvalidation = Mockito.mock(CacheInvalidationPort.class);
+        appointmentUseCases = new AppointmentUseCases(appointmentPersistencePort, eventPublisher, reminderScheduler, appointmentSchedulingService, cacheInvalidation);
     }
 
     @Test
@@ -176,6 +182,27 @@ class AppointmentUseCasesTest {
         verify(appointmentPersistencePort).findAvailableHours(date, userId);
     }
 
+    @Test
+    @DisplayName("Deve buscar horários disponíveis para um intervalo de datas")
+    void deveBuscarHorariosDisponiveisParaIntervaloDeDatas() {
+        // Given
+        LocalDate from = LocalDate.now().plusDays(1);
+        LocalDate to = from.plusDays(6);
+        String userId = "user-123";
+        Map<LocalDate, List<String>> availability = Map.of(from, List.of("08:00", "09:00"), to, List.of());
+
+        when(appointmentPersistencePort.findAvailableHours(userId, from, to)).thenReturn(availability);
+
+        // When
+        Map<LocalDate, List<String>> result = appointmentUseCases.findAvailableHours(userId, from, to);
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(List.of("08:00", "09:00"), result.get(from));
+        verify(appointmentSchedulingService).validateAvailabilityRange(from, to);
+        verify(appointmentPersistencePort).findAvailableHours(userId, from, to);
+    }
+
     @Test
     @DisplayName("Deve buscar agendamentos por usuário e data")
     void deveBuscarAgendamentosPorUsuarioEData() {
@@ -236,6 +263,69 @@ class AppointmentUseCasesTest {
         verify(eventPublisher, never()).publishAppointmentScheduled(any());
     }
 
+    @Test
+    @DisplayName("Deve invalidar a agenda do dia anterior e do novo dia ao remarcar")
+    void deveInvalidarAgendaDoDiaAnteriorEDoNovoDiaAoRemarcar() {
+        // Given
+        String appointmentId = "appointment-123";
+        LocalDate previousDate = LocalDate.now().plusDays(1);
+        LocalDate newDate = LocalDate.now().plusDays(2);
+        AppointmentRequestDto updateRequest = new AppointmentRequestDto(
+                newDate, "16:00", AppointmentType.REMARCACAO, "user-123", "patient-456");
+        when(appointmentPersistencePort.findById(appointmentId)).thenReturn(Optional.of(new AppointmentResponseDto(
+                appointmentId, previousDate, "10:00", AppointmentType.MARCACAO, "user-123", "patient-456")));
+        when(appointmentPersistencePort.update(appointmentId, updateRequest)).thenReturn(new AppointmentResponseDto(
+                appointmentId, newDate, "16:00", AppointmentType.REMARCACAO, "user-123", "patient-456"));
+
+        // When
+        appointmentUseCases.update(appointmentId, updateRequest);
+
+        // Then
+        verify(cacheInvalidation).appointmentsChanged("user-123", previousDate);
+        verify(cacheInvalidation).appointmentsChanged("user-123", newDate);
+        verify(reminderScheduler).rescheduleReminder(argThat(rescheduled -> newDate.equals(rescheduled.getDate())));
+    }
+
+    @Test
+    @DisplayName("Não deve reagendar o lembrete quando data e horário não mudam")
+    void naoDeveReagendarLembreteQuandoHorarioNaoMuda() {
+        // Given
+        String appointmentId = "appointment-123";
+        LocalDate date = LocalDate.now().plusDays(1);
+        AppointmentRequestDto updateRequest = new AppointmentRequestDto(
+                date, "10:00", AppointmentType.REMARCACAO, "user-123", "patient-456");
+        when(appointmentPersistencePort.findById(appointmentId)).thenReturn(Optional.of(new AppointmentResponseDto(
+                appointmentId, date, "10:00", AppointmentType.MARCACAO, "user-123", "patient-456")));
+        when(appointmentPersistencePort.update(appointmentId, updateRequest)).thenReturn(new AppointmentResponseDto(
+                appointmentId, date, "10:00", AppointmentType.REMARCACAO, "user-123", "patient-456"));
+
+        // When
+        appointmentUseCases.update(appointmentId, updateRequest);
+
+        // Then
+        verify(reminderScheduler, never()).rescheduleReminder(any());
+    }
+
+    @Test
+    @DisplayName("Deve reagendar o lembrete quando apenas o paciente muda")
+    void deveReagendarLembreteQuandoPacienteMuda() {
+        // Given
+        String appointmentId = "appointment-123";
+        LocalDate date = LocalDate.now().plusDays(1);
+        AppointmentRequestDto updateRequest = new AppointmentRequestDto(
+                date, "10:00", AppointmentType.REMARCACAO, "user-123", "patient-789");
+        when(appointmentPersistencePort.findById(appointmentId)).thenReturn(Optional.of(new AppointmentResponseDto(
+                appointmentId, date, "10:00", AppointmentType.MARCACAO, "user-123", "patient-456")));
+        when(appointmentPersistencePort.update(appointmentId, updateRequest)).thenReturn(new AppointmentResponseDto(
+                appointmentId, date, "10:00", AppointmentType.REMARCACAO, "user-123", "patient-789"));
+
+        // When
+        appointmentUseCases.update(appointmentId, updateRequest);
+
+        // Then
+        verify(reminderScheduler).rescheduleReminder(argThat(rescheduled -> "patient-789".equals(rescheduled.getPatient_id())));
+    }
+
     @Test
     @DisplayName("Deve lançar exceção ao tentar atualizar com tipo MARCACAO")
     void deveLancarExcecaoAoTentarAtualizarComTipoMarcacao() {
@@ -277,6 +367,48 @@ class AppointmentUseCasesTest {
         verify(eventPublisher, never()).publishAppointmentScheduled(any());
     }
 
+    @Test
+    @DisplayName("Deve cancelar o dia do profissional com cancelamento de lembretes em lote")
+    void deveCancelarDiaDoProfissionalComLembretesEmLote() {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(1);
+        when(appointmentPersistencePort.deleteAppointments("user-123", date)).thenReturn(List.of(
+                new AppointmentResponseDto("appointment-1", date, "09:00", AppointmentType.MARCACAO, "user-123", "patient-1"),
+                new AppointmentResponseDto("appointment-2", date, "10:00", AppointmentType.MARCACAO, "user-123", "patient-2")));
+
+        // When
+        appointmentUseCases.deleteAppointments("user-123", date);
+
+        // Then
+        verify(reminderScheduler).cancelReminders(List.of("appointment-1", "appointment-2"));
+        verify(reminderScheduler, never()).cancelReminder(any());
+        verify(cacheInvalidation, times(1)).appointmentsChanged("user-123", date);
+        verify(eventPublisher, times(2)).publishAppointmentCanceled(any(AppointmentCanceledEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve publicar evento de cancelamento ao deletar agendamento")
+    void devePublicarEventoDeCancelamentoAoDeletarAgendamento() {
+        // Given
+        String appointmentId = "appointment-123";
+        LocalDate date = LocalDate.now().plusDays(1);
+        AppointmentResponseDto existing = new AppointmentResponseDto(
+                appointmentId, date, "10:00", AppointmentType.MARCACAO, "user-123", "patient-456");
+        when(appointmentPersistencePort.findById(appointmentId)).thenReturn(Optional.of(existing));
+
+        // When
+        appointmentUseCases.delete(appointmentId);
+
+        // Then
+        ArgumentCaptor<AppointmentCanceledEvent> eventCaptor = ArgumentCaptor.forClass(AppointmentCanceledEvent.class);
+        verify(appointmentPersistencePort).delete(appointmentId);
+        verify(eventPublisher).publishAppointmentCanceled(eventCaptor.capture());
+        verify(cacheInvalidation).appointmentsChanged("user-123", date);
+        verify(reminderScheduler).cancelReminder(appointmentId);
+        assertEquals("user-123", eventCaptor.getValue().professionalId());
+        assertEquals(date.toString(), eventCaptor.getValue().date());
+    }
+
     @Test
     @DisplayName("Deve retornar lista vazia quando não há horários disponíveis")
     void deveRetornarListaVaziaQuandoNaoHaHorariosDisponiveis() {
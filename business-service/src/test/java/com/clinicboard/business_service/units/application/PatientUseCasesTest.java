@@ -1,9 +1,17 @@
 package com.clinicboard.business_service.units.application;
 
+import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
 import com.clinicboard.business_service.application.dto.PatientRequestDto;
 import com.clinicboard.business_service.application.dto.PatientResponseDto;
+import com.clinicboard.business_service.application.dto.PatientSummaryDto;
+import com.clinicboard.business_service.application.port.out.AppointmentPersistencePort;
+import com.clinicboard.business_service.application.port.out.CacheInvalidationPort;
+import com.clinicboard.business_service.application.port.out.EventPublisherGateway;
 import com.clinicboard.business_service.application.port.out.PatientPersistencePort;
+import com.clinicboard.business_service.application.port.out.ReminderSchedulerPort;
 import com.clinicboard.business_service.application.usecase.PatientUseCases;
+import com.clinicboard.business_service.domain.event.PatientChangedEvent;
+import com.clinicboard.business_service.domain.model.AppointmentType;
 import com.clinicboard.business_service.infrastructure.adapter.in.web.exception.BusinessException;
 import com.clinicboard.business_service.infrastructure.adapter.in.web.exception.CustomGenericException;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,9 +19,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,12 +34,21 @@ import static org.mockito.Mockito.*;
 class PatientUseCasesTest {
 
     private PatientPersistencePort patientPersistencePort;
+    private EventPublisherGateway eventPublisher;
+    private CacheInvalidationPort cacheInvalidation;
+    private AppointmentPersistencePort appointmentPersistencePort;
+    private ReminderSchedulerPort reminderScheduler;
     private PatientUseCases patientUseCases;
 
     @BeforeEach
     void setUp() {
         patientPersistencePort = Mockito.mock(PatientPersistencePort.class);
-        patientUseCases = new PatientUseCases(patientPersistencePort);
+        eventPublisher = Mockito.mock(EventPublisherGateway.class);
+        cacheInvalidation = Mockito.mock(CacheInvalidationPort.class);
+        appointmentPersistencePort = Mockito.mock(AppointmentPersistencePort.class);
+        reminderScheduler = Mockito.mock(ReminderSchedulerPort.class);
+        patientUseCases = new PatientUseCases(patientPersistencePort, eventPublisher, cacheInvalidation,
+                appointmentPersistencePort, reminderScheduler);
     }
 
     @Test
@@ -121,21 +141,48 @@ class PatientUseCasesTest {
     void deveBuscarPacientePorNomeParcial() {
         // Given
         String searchTerm = "João";
-        List<PatientResponseDto> expectedPatients = List.of(
-                new PatientResponseDto("patient-1", "João Silva", 30, "joao@email.com", "+55 11999887766", null, "user-123"),
-                new PatientResponseDto("patient-2", "João Santos", 45, "joaosantos@email.com", "+55 11999887755", null, "user-456")
+        List<PatientSummaryDto> expectedPatients = List.of(
+                new PatientSummaryDto("patient-1", "João Silva", 30, "+55 11999887766"),
+                new PatientSummaryDto("patient-2", "João Santos", 45, "+55 11999887755")
         );
 
-        when(patientPersistencePort.findPatientByName(searchTerm)).thenReturn(expectedPatients);
+        when(patientPersistencePort.findPatientByName("user-123", searchTerm, 20)).thenReturn(expectedPatients);
 
         // When
-        List<PatientResponseDto> result = patientUseCases.findPatientByName(searchTerm);
+        List<PatientSummaryDto> result = patientUseCases.findPatientByName("user-123", searchTerm, 20);
 
         // Then
         assertNotNull(result);
         assertEquals(2, result.size());
         assertTrue(result.stream().allMatch(p -> p.getName().contains("João")));
-        verify(patientPersistencePort).findPatientByName(searchTerm);
+        verify(patientPersistencePort).findPatientByName("user-123", searchTerm, 20);
+    }
+
+    @Test
+    @DisplayName("Deve limitar a quantidade de resultados da busca por nome")
+    void deveLimitarQuantidadeDeResultadosDaBuscaPorNome() {
+        // Given
+        when(patientPersistencePort.findPatientByName("user-123", "Ana", 50)).thenReturn(List.of());
+
+        // When
+        patientUseCases.findPatientByName("user-123", "Ana", 1_000);
+
+        // Then
+        verify(patientPersistencePort).findPatientByName("user-123", "Ana", 50);
+    }
+
+    @Test
+    @DisplayName("Deve paginar pacientes por cursor limitando o tamanho da página")
+    void devePaginarPacientesPorCursorLimitandoTamanhoDaPagina() {
+        // Given
+        when(patientPersistencePort.findAll("patient-100", 500)).thenReturn(List.of());
+
+        // When
+        List<PatientResponseDto> result = patientUseCases.findAll("patient-100", 10_000);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(patientPersistencePort).findAll("patient-100", 500);
     }
 
     @Test
@@ -214,6 +261,47 @@ class PatientUseCasesTest {
         verify(patientPersistencePort).delete(patientId);
     }
 
+    @Test
+    @DisplayName("Deve excluir os agendamentos e cancelar os lembretes antes de deletar o paciente")
+    void deveCancelarLembretesDosAgendamentosAoDeletarPaciente() {
+        // Given
+        String patientId = "patient-123";
+        LocalDate date = LocalDate.now().plusDays(1);
+        when(appointmentPersistencePort.deletePatientAppointments(patientId)).thenReturn(List.of(
+                new AppointmentResponseDto("appointment-1", date, "09:00", AppointmentType.MARCACAO, "user-123", patientId),
+                new AppointmentResponseDto("appointment-2", date.plusDays(7), "09:00", AppointmentType.MARCACAO, "user-123", patientId)));
+
+        // When
+        patientUseCases.delete(patientId);
+
+        // Then
+        var inOrder = inOrder(appointmentPersistencePort, patientPersistencePort);
+        inOrder.verify(appointmentPersistencePort).deletePatientAppointments(patientId);
+        inOrder.verify(patientPersistencePort).delete(patientId);
+        verify(reminderScheduler).cancelReminders(List.of("appointment-1", "appointment-2"));
+    }
+
+    @Test
+    @DisplayName("Deve publicar evento com o profissional ao deletar paciente")
+    void devePublicarEventoComProfissionalAoDeletarPaciente() {
+        // Given
+        String patientId = "patient-123";
+        PatientResponseDto existing = new PatientResponseDto(
+                patientId, "João Silva", 30, "joao@email.com", "+55 11999887766", null, "user-123");
+        when(patientPersistencePort.findById(patientId)).thenReturn(Optional.of(existing));
+
+        // When
+        patientUseCases.delete(patientId);
+
+        // Then
+        ArgumentCaptor<PatientChangedEvent> eventCaptor = ArgumentCaptor.forClass(PatientChangedEvent.class);
+        verify(eventPublisher).publishPatientChanged(eventCaptor.capture());
+        assertEquals("user-123", eventCaptor.getValue().professionalId());
+        assertEquals(PatientChangedEvent.ChangeType.DELETED, eventCaptor.getValue().changeType());
+        verify(cacheInvalidation).patientsChanged("user-123");
+        verify(cacheInvalidation).allAppointmentsChanged("user-123");
+    }
+
     @Test
     @DisplayName("Deve buscar paciente por ID")
     void deveBuscarPacientePorId() {
@@ -246,14 +334,14 @@ class PatientUseCasesTest {
     @DisplayName("Deve retornar lista vazia para busca por nome inválido")
     void deveRetornarListaVaziaParaBuscaPorNomeInvalido(String searchTerm) {
         // Given
-        when(patientPersistencePort.findPatientByName(searchTerm)).thenReturn(List.of());
+        when(patientPersistencePort.findPatientByName("user-123", searchTerm, 20)).thenReturn(List.of());
 
         // When
-        List<PatientResponseDto> result = patientUseCases.findPatientByName(searchTerm);
+        List<PatientSummaryDto> result = patientUseCases.findPatientByName("user-123", searchTerm, 20);
 
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(patientPersistencePort).findPatientByName(searchTerm);
+        verify(patientPersistencePort).findPatientByName("user-123", searchTerm, 20);
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.clinicboard.business_service.units.infrastructure;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentAvailabilityEngine;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentHourView;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AppointmentAvailabilityEngine - Testes Unitários")
+class AppointmentAvailabilityEngineTest {
+
+    private AppointmentRepository appointmentRepository;
+    private AppointmentAvailabilityEngine availabilityEngine;
+
+    @BeforeEach
+    void setUp() {
+        appointmentRepository = Mockito.mock(AppointmentRepository.class);
+        availabilityEngine = new AppointmentAvailabilityEngine(appointmentRepository);
+    }
+
+    @Test
+    @DisplayName("Deve calcular horários livres de cada dia do intervalo com uma única consulta")
+    void deveCalcularHorariosLivresDeCadaDiaDoIntervalo() {
+        // Given
+        LocalDate from = LocalDate.now().plusDays(1);
+        LocalDate to = from.plusDays(2);
+        when(appointmentRepository.findHoursByUserIdBetween("user-123", from, to)).thenReturn(List.of(
+                new AppointmentHourView(from, "10:00"),
+                new AppointmentHourView(to, "10:00"),
+                new AppointmentHourView(to, "11:00")));
+
+        // When
+        Map<LocalDate, List<String>> result = availabilityEngine.findAvailableHours("user-123", from, to);
+
+        // Then
+        assertEquals(List.of(from, from.plusDays(1), to), List.copyOf(result.keySet()));
+        assertEquals(13, result.get(from).size());
+        assertEquals(14, result.get(from.plusDays(1)).size());
+        assertEquals(12, result.get(to).size());
+        verify(appointmentRepository, times(1)).findHoursByUserIdBetween("user-123", from, to);
+    }
+}
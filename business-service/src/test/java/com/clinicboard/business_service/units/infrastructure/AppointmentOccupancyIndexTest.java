@@ -0,0 +1,117 @@
+package com.clinicboard.business_service.units.infrastructure;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentOccupancyIndex;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentRepository;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentSlotView;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AppointmentOccupancyIndex - Testes Unitários")
+class AppointmentOccupancyIndexTest {
+
+    private AppointmentRepository appointmentRepository;
+    private AppointmentOccupancyIndex occupancyIndex;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        appointmentRepository = Mockito.mock(AppointmentRepository.class);
+        occupancyIndex = new AppointmentOccupancyIndex(appointmentRepository);
+        date = LocalDate.now().plusDays(1);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco enquanto o índice não estiver aquecido")
+    void deveConsultarBancoEnquantoIndiceNaoEstiverAquecido() {
+        // Given
+        when(appointmentRepository.existsByUserIdAndDateAndHour("user-123", date, "10:00")).thenReturn(true);
+
+        // When
+        boolean occupied = occupancyIndex.isSlotOccupied("user-123", date, "10:00");
+
+        // Then
+        assertTrue(occupied);
+        verify(appointmentRepository).existsByUserIdAndDateAndHour("user-123", date, "10:00");
+    }
+
+    @Test
+    @DisplayName("Deve resolver horário livre em memória sem consultar o banco")
+    void deveResolverHorarioLivreEmMemoria() {
+        // Given
+        when(appointmentRepository.findSlotsFrom(any())).thenReturn(List.of(
+                new AppointmentSlotView("appt-1", "user-123", "patient-1", date, "10:00")));
+        occupancyIndex.warmUp();
+
+        // When
+        boolean occupied = occupancyIndex.isSlotOccupied("user-123", date, "11:00");
+        boolean otherProfessional = occupancyIndex.isSlotOccupied("user-999", date, "10:00");
+        boolean patientFree = occupancyIndex.hasPatientAppointmentOn("patient-2", date);
+
+        // Then
+        assertFalse(occupied);
+        assertFalse(otherProfessional);
+        assertFalse(patientFree);
+        verify(appointmentRepository, never()).existsByUserIdAndDateAndHour(any(), any(), any());
+        verify(appointmentRepository, never()).existsByPatientIdAndDate(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve confirmar conflito no banco e corrigir ocupação desatualizada")
+    void deveConfirmarConflitoNoBancoECorrigirOcupacaoDesatualizada() {
+        // Given
+        when(appointmentRepository.findSlotsFrom(any())).thenReturn(List.of());
+        occupancyIndex.warmUp();
+        occupancyIndex.register("user-123", "patient-1", date, "14:00");
+        when(appointmentRepository.existsByUserIdAndDateAndHour("user-123", date, "14:00")).thenReturn(false);
+
+        // When
+        boolean firstCheck = occupancyIndex.isSlotOccupied("user-123", date, "14:00");
+        boolean secondCheck = occupancyIndex.isSlotOccupied("user-123", date, "14:00");
+
+        // Then
+        assertFalse(firstCheck);
+        assertFalse(secondCheck);
+        verify(appointmentRepository, times(1)).existsByUserIdAndDateAndHour("user-123", date, "14:00");
+    }
+
+    @Test
+    @DisplayName("Deve liberar o horário e o dia do paciente ao remover agendamento")
+    void deveLiberarHorarioEDiaDoPacienteAoRemoverAgendamento() {
+        // Given
+        when(appointmentRepository.findSlotsFrom(any())).thenReturn(List.of(
+                new AppointmentSlotView("appt-1", "user-123", "patient-1", date, "09:00")));
+        occupancyIndex.warmUp();
+
+        // When
+        occupancyIndex.release("user-123", "patient-1", date, "09:00");
+
+        // Then
+        assertFalse(occupancyIndex.isSlotOccupied("user-123", date, "09:00"));
+        assertFalse(occupancyIndex.hasPatientAppointmentOn("patient-1", date));
+        verify(appointmentRepository, never()).existsByUserIdAndDateAndHour(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco para horários fora da grade")
+    void deveConsultarBancoParaHorariosForaDaGrade() {
+        // Given
+        when(appointmentRepository.findSlotsFrom(any())).thenReturn(List.of());
+        occupancyIndex.warmUp();
+
+        // When
+        occupancyIndex.isSlotOccupied("user-123", date, "10:30");
+
+        // Then
+        verify(appointmentRepository).existsByUserIdAndDateAndHour("user-123", date, "10:30");
+    }
+}
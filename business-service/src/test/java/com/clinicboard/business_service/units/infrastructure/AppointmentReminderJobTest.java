@@ -0,0 +1,139 @@
+package com.clinicboard.business_service.units.infrastructure;
+
+import com.clinicboard.business_service.application.dto.AppointmentReminderEvent;
+import com.clinicboard.business_service.application.port.out.EventPublisherGateway;
+import com.clinicboard.business_service.domain.model.Appointment;
+import com.clinicboard.business_service.domain.model.AppointmentType;
+import com.clinicboard.business_service.domain.model.Patient;
+import com.clinicboard.business_service.domain.value_objects.Hour;
+import com.clinicboard.business_service.domain.value_objects.ProfessionalId;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentRepository;
+import com.clinicboard.business_service.infrastructure.adapter.out.quartz.AppointmentReminderJob;
+import com.clinicboard.business_service.infrastructure.adapter.out.quartz.ReminderDelivery;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.quartz.JobDataMap;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerContext;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AppointmentReminderJob - Testes Unitários")
+class AppointmentReminderJobTest {
+
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+
+    private AppointmentRepository appointmentRepository;
+    private EventPublisherGateway eventPublisher;
+    private AppointmentReminderJob job;
+
+    @BeforeEach
+    void setUp() {
+        appointmentRepository = Mockito.mock(AppointmentRepository.class);
+        eventPublisher = Mockito.mock(EventPublisherGateway.class);
+        TransactionTemplate transactionTemplate = Mockito.mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doCallRealMethod().when(transactionTemplate).executeWithoutResult(any());
+        job = new AppointmentReminderJob(appointmentRepository,
+                new ReminderDelivery(appointmentRepository, eventPublisher), transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve publicar o lembrete e gravar reminder_sent_at")
+    void devePublicarEMarcarLembreteEnviado() throws Exception {
+        // Given
+        when(appointmentRepository.lockUnsentReminders(List.of("appointment-1")))
+                .thenReturn(List.of(appointment("appointment-1", "10:00")));
+        ArgumentCaptor<AppointmentReminderEvent> event = ArgumentCaptor.forClass(AppointmentReminderEvent.class);
+
+        // When
+        job.execute(context("appointment-1", "10:00"));
+
+        // Then
+        verify(eventPublisher).publishAppointmentReminderNotification(event.capture());
+        assertEquals("appointment-1", event.getValue().appointmentId());
+        assertEquals("patient-1", event.getValue().patientId());
+        verify(appointmentRepository).markRemindersSent(eq(List.of("appointment-1")), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Não deve reenviar um lembrete já enviado por outro motor")
+    void naoDeveReenviarLembreteJaEnviado() throws Exception {
+        // Given: reminder_sent_at preenchido, a consulta de travamento não retorna o agendamento
+        when(appointmentRepository.lockUnsentReminders(List.of("appointment-1"))).thenReturn(List.of());
+
+        // When
+        job.execute(context("appointment-1", "10:00"));
+
+        // Then
+        verifyNoInteractions(eventPublisher);
+        verify(appointmentRepository, never()).markRemindersSent(anyCollection(), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Não deve enviar quando os dados do job não correspondem mais ao horário do agendamento")
+    void naoDeveEnviarComDadosDeJobDefasados() throws Exception {
+        // Given
+        when(appointmentRepository.lockUnsentReminders(List.of("appointment-1")))
+                .thenReturn(List.of(appointment("appointment-1", "11:00")));
+
+        // When
+        job.execute(context("appointment-1", "10:00"));
+
+        // Then
+        verifyNoInteractions(eventPublisher);
+        verify(appointmentRepository, never()).markRemindersSent(anyCollection(), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Não deve marcar o lembrete quando a publicação lançar exceção")
+    void naoDeveMarcarQuandoPublicacaoFalhar() throws Exception {
+        // Given
+        when(appointmentRepository.lockUnsentReminders(List.of("appointment-1")))
+                .thenReturn(List.of(appointment("appointment-1", "10:00")));
+        doThrow(new IllegalStateException("broker indisponível"))
+                .when(eventPublisher).publishAppointmentReminderNotification(any());
+
+        JobExecutionContext context = context("appointment-1", "10:00");
+
+        // When / Then
+        assertThrows(Exception.class, () -> job.execute(context));
+        verify(appointmentRepository, never()).markRemindersSent(anyCollection(), any(Instant.class));
+    }
+
+    private static JobExecutionContext context(String appointmentId, String hour) throws Exception {
+        JobDataMap dataMap = new JobDataMap();
+        dataMap.put("appointmentId", appointmentId);
+        dataMap.put("patientId", "patient-1");
+        dataMap.put("professionalId", "user-123");
+        dataMap.put("date", DATE.toString());
+        dataMap.put("hour", hour);
+        Scheduler scheduler = Mockito.mock(Scheduler.class);
+        when(scheduler.getContext()).thenReturn(new SchedulerContext());
+        JobExecutionContext context = Mockito.mock(JobExecutionContext.class);
+        when(context.getScheduler()).thenReturn(scheduler);
+        when(context.getMergedJobDataMap()).thenReturn(dataMap);
+        return context;
+    }
+
+    private static Appointment appointment(String id, String hour) {
+        Patient patient = new Patient();
+        patient.setId("patient-1");
+        return new Appointment(id, DATE, Hour.of(hour), AppointmentType.MARCACAO,
+                ProfessionalId.of("user-123"), patient);
+    }
+}
@@ -0,0 +1,97 @@
+package com.clinicboard.business_service.units.infrastructure;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentRepository;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentSlotView;
+import com.clinicboard.business_service.infrastructure.adapter.out.quartz.AppointmentReminderReconciler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AppointmentReminderReconciler - Testes Unitários")
+class AppointmentReminderReconcilerTest {
+
+    private Scheduler scheduler;
+    private AppointmentRepository appointmentRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        scheduler = Mockito.mock(Scheduler.class);
+        appointmentRepository = Mockito.mock(AppointmentRepository.class);
+        LocalDate future = LocalDate.now().plusDays(5);
+        when(appointmentRepository.findSlotsFrom(any(LocalDate.class))).thenReturn(List.of(
+                new AppointmentSlotView("existing", "user-123", "patient-1", future, "10:00"),
+                new AppointmentSlotView("missing-1", "user-123", "patient-2", future, "11:00"),
+                new AppointmentSlotView("missing-2", "user-123", "patient-3", future, "14:00"),
+                new AppointmentSlotView("past", "user-123", "patient-4", LocalDate.now().minusDays(1), "10:00")));
+        when(scheduler.getJobKeys(any())).thenReturn(Set.of(JobKey.jobKey("reminder-existing")));
+    }
+
+    @Test
+    @DisplayName("Deve recriar em lote apenas os lembretes futuros ausentes no job store")
+    @SuppressWarnings("unchecked")
+    void deveRecriarApenasLembretesFuturosAusentes() throws Exception {
+        // Given
+        AppointmentReminderReconciler reconciler = new AppointmentReminderReconciler(scheduler,
+                appointmentRepository, 500);
+        ArgumentCaptor<Map<JobDetail, Set<? extends Trigger>>> captor = ArgumentCaptor.forClass(Map.class);
+        doNothing().when(scheduler).scheduleJobs(captor.capture(), eq(true));
+
+        // When
+        reconciler.reconcile();
+
+        // Then
+        verify(scheduler, times(1)).scheduleJobs(anyMap(), eq(true));
+        verify(scheduler, never()).scheduleJob(any(JobDetail.class), any(Trigger.class));
+        Set<String> jobNames = captor.getValue().keySet().stream()
+                .map(job -> job.getKey().getName())
+                .collect(Collectors.toSet());
+        assertEquals(Set.of("reminder-missing-1", "reminder-missing-2"), jobNames);
+    }
+
+    @Test
+    @DisplayName("Deve dividir os lembretes ausentes em lotes do tamanho configurado")
+    void deveDividirLembretesEmLotes() throws Exception {
+        // Given
+        AppointmentReminderReconciler reconciler = new AppointmentReminderReconciler(scheduler,
+                appointmentRepository, 1);
+
+        // When
+        reconciler.reconcile();
+
+        // Then
+        verify(scheduler, times(2)).scheduleJobs(anyMap(), eq(true));
+    }
+
+    @Test
+    @DisplayName("Deve remover jobs de lembrete sem agendamento correspondente")
+    void deveRemoverJobsOrfaos() throws Exception {
+        // Given
+        when(scheduler.getJobKeys(any())).thenReturn(Set.of(JobKey.jobKey("reminder-existing"),
+                JobKey.jobKey("reminder-deleted"), JobKey.jobKey("other-job")));
+        AppointmentReminderReconciler reconciler = new AppointmentReminderReconciler(scheduler,
+                appointmentRepository, 500);
+
+        // When
+        reconciler.reconcile();
+
+        // Then
+        verify(scheduler).deleteJobs(List.of(JobKey.jobKey("reminder-deleted")));
+    }
+}
@@ -0,0 +1,91 @@
+package com.clinicboard.business_service.units.infrastructure;
+
+import com.clinicboard.business_service.application.dto.AppointmentReminderEvent;
+import com.clinicboard.business_service.application.port.out.EventPublisherGateway;
+import com.clinicboard.business_service.domain.model.Appointment;
+import com.clinicboard.business_service.domain.model.AppointmentType;
+import com.clinicboard.business_service.domain.model.Patient;
+import com.clinicboard.business_service.domain.value_objects.Hour;
+import com.clinicboard.business_service.domain.value_objects.ProfessionalId;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentRepository;
+import com.clinicboard.business_service.infrastructure.adapter.out.quartz.AppointmentReminderSweeper;
+import com.clinicboard.business_service.infrastructure.adapter.out.quartz.ReminderDelivery;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AppointmentReminderSweeper - Testes Unitários")
+class AppointmentReminderSweeperTest {
+
+    private AppointmentRepository appointmentRepository;
+    private EventPublisherGateway eventPublisher;
+    private AppointmentReminderSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        appointmentRepository = Mockito.mock(AppointmentRepository.class);
+        eventPublisher = Mockito.mock(EventPublisherGateway.class);
+        TransactionTemplate transactionTemplate = Mockito.mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        sweeper = new AppointmentReminderSweeper(appointmentRepository,
+                new ReminderDelivery(appointmentRepository, eventPublisher), transactionTemplate, 2);
+    }
+
+    @Test
+    @DisplayName("Deve publicar os lembretes devidos em lote e marcar apenas os confirmados")
+    @SuppressWarnings("unchecked")
+    void devePublicarEmLoteEMarcarApenasConfirmados() {
+        // Given
+        when(appointmentRepository.lockDueReminders(any(LocalDate.class), any(LocalDate.class), anyString(),
+                any(Limit.class))).thenReturn(List.of(appointment("appointment-1"), appointment("appointment-2")));
+        when(eventPublisher.publishAppointmentReminderNotifications(anyList())).thenReturn(List.of("appointment-1"));
+        ArgumentCaptor<List<AppointmentReminderEvent>> events = ArgumentCaptor.forClass(List.class);
+
+        // When
+        sweeper.sweep();
+
+        // Then
+        verify(eventPublisher, times(1)).publishAppointmentReminderNotifications(events.capture());
+        assertEquals(2, events.getValue().size());
+        assertEquals("patient-1", events.getValue().get(0).patientId());
+        assertEquals("Lembrete: Seu atendimento é amanhã às 10:00", events.getValue().get(0).message());
+        verify(appointmentRepository).markRemindersSent(eq(List.of("appointment-1")), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Não deve publicar nada quando não houver lembretes devidos")
+    void naoDevePublicarSemLembretesDevidos() {
+        // Given
+        when(appointmentRepository.lockDueReminders(any(LocalDate.class), any(LocalDate.class), anyString(),
+                any(Limit.class))).thenReturn(List.of());
+
+        // When
+        sweeper.sweep();
+
+        // Then
+        verify(eventPublisher, never()).publishAppointmentReminderNotifications(anyList());
+        verify(appointmentRepository, never()).markRemindersSent(anyCollection(), any(Instant.class));
+    }
+
+    private Appointment appointment(String id) {
+        Patient patient = new Patient();
+        patient.setId("patient-1");
+        return new Appointment(id, LocalDate.now().plusDays(1), Hour.of("10:00"), AppointmentType.MARCACAO,
+                ProfessionalId.of("user-123"), patient);
+    }
+}
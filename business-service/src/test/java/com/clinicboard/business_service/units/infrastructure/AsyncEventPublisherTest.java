@@ -0,0 +1,118 @@
+package com.clinicboard.business_service.units.infrastructure;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.messaging.AsyncEventPublisher;
+import com.clinicboard.business_service.infrastructure.adapter.out.messaging.BrokerConfirmTimeoutException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AsyncEventPublisher - Testes Unitários")
+class AsyncEventPublisherTest {
+
+    private RabbitTemplate rabbitTemplate;
+    private RabbitOperations channelOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncEventPublisher asyncEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        rabbitTemplate = Mockito.mock(RabbitTemplate.class);
+        channelOperations = Mockito.mock(RabbitOperations.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(channelOperations));
+        asyncEventPublisher = new AsyncEventPublisher(rabbitTemplate, 2, 10, Duration.ofSeconds(1), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncEventPublisher.stop();
+    }
+
+    @Test
+    @DisplayName("Deve completar a publicação no confirm do broker e registrar a latência")
+    void deveCompletarPublicacaoNoConfirm() throws Exception {
+        // Given
+        confirmAll(true);
+        asyncEventPublisher.start();
+
+        // When
+        CompletableFuture<Void> result = asyncEventPublisher.publish("clinicboard.events", "patient.changed", "evento");
+
+        // Then
+        assertDoesNotThrow(() -> result.get(2, TimeUnit.SECONDS));
+        verify(channelOperations).convertAndSend(eq("clinicboard.events"), eq("patient.changed"), eq("evento"),
+                any(CorrelationData.class));
+        assertEquals(1, meterRegistry.timer("business.events.publisher.confirm.latency").count());
+    }
+
+    @Test
+    @DisplayName("Deve falhar a publicação quando o broker responder com nack")
+    void deveFalharPublicacaoComNack() {
+        // Given
+        confirmAll(false);
+        asyncEventPublisher.start();
+
+        // When
+        CompletableFuture<Void> result = asyncEventPublisher.publish("clinicboard.events", "patient.changed", "evento");
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(2, TimeUnit.SECONDS));
+        assertTrue(exception.getCause().getMessage().contains("Broker rejected"));
+    }
+
+    @Test
+    @DisplayName("Deve falhar com timeout de confirm quando o broker não responder")
+    void deveFalharComTimeoutDeConfirm() {
+        // Given - broker recebe a mensagem mas não confirma
+        asyncEventPublisher.start();
+
+        // When
+        CompletableFuture<Void> result = asyncEventPublisher.publish("clinicboard.events", "patient.changed", "evento");
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(3, TimeUnit.SECONDS));
+        assertInstanceOf(BrokerConfirmTimeoutException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar na hora quando a fila estiver cheia")
+    void deveRejeitarQuandoFilaCheia() {
+        // Given - publicador não iniciado, fila com capacidade 2
+        asyncEventPublisher.publish("clinicboard.events", "patient.changed", "evento-1");
+        asyncEventPublisher.publish("clinicboard.events", "patient.changed", "evento-2");
+
+        // When
+        CompletableFuture<Void> result = asyncEventPublisher.publish("clinicboard.events", "patient.changed", "evento-3");
+
+        // Then
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(2.0, meterRegistry.get("business.events.publisher.queue.depth").gauge().value());
+        assertEquals(1.0, meterRegistry.counter("business.events.publisher.rejected").count());
+    }
+
+    private void confirmAll(boolean ack) {
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(channelOperations).convertAndSend(anyString(), anyString(), any(Object.class),
+                any(CorrelationData.class));
+    }
+}
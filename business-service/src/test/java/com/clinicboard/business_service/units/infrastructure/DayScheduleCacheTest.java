@@ -0,0 +1,84 @@
+package com.clinicboard.business_service.units.infrastructure;
+
+import com.clinicboard.business_service.application.dto.AppointmentResponseDto;
+import com.clinicboard.business_service.domain.model.AppointmentType;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.AppointmentRepository;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.DaySchedule;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.DayScheduleCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DayScheduleCache - Testes Unitários")
+class DayScheduleCacheTest {
+
+    private AppointmentRepository appointmentRepository;
+    private DayScheduleCache dayScheduleCache;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        appointmentRepository = Mockito.mock(AppointmentRepository.class);
+        dayScheduleCache = new DayScheduleCache(appointmentRepository, 100,
+                Duration.ofMinutes(10), new SimpleMeterRegistry());
+        date = LocalDate.now().plusDays(1);
+
+        when(appointmentRepository.findDayScheduleByDateAndUserId(date, "user-123")).thenReturn(List.of(
+                new AppointmentResponseDto("appointment-1", date, "10:00", AppointmentType.MARCACAO, "user-123",
+                        "patient-1")));
+    }
+
+    @Test
+    @DisplayName("Deve atender agenda e horários livres do mesmo dia com uma única consulta")
+    void deveAtenderAgendaEHorariosLivresComUmaUnicaConsulta() {
+        // When
+        List<AppointmentResponseDto> appointments = dayScheduleCache.get("user-123", date).appointments();
+        List<String> freeHours = dayScheduleCache.get("user-123", date).freeHours();
+
+        // Then
+        assertEquals(1, appointments.size());
+        assertEquals(13, freeHours.size());
+        assertFalse(freeHours.contains("10:00"));
+        verify(appointmentRepository, times(1)).findDayScheduleByDateAndUserId(date, "user-123");
+    }
+
+    @Test
+    @DisplayName("Deve devolver cópias que não alteram a agenda em cache")
+    void deveDevolverCopiasQueNaoAlteramAgendaEmCache() {
+        // Given
+        DaySchedule schedule = dayScheduleCache.get("user-123", date);
+
+        // When
+        schedule.appointments().get(0).setHour("15:00");
+
+        // Then
+        assertEquals("10:00", dayScheduleCache.get("user-123", date).appointments().get(0).getHour());
+        assertThrows(UnsupportedOperationException.class, () -> schedule.appointments().clear());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar a agenda após invalidação do dia ou do profissional")
+    void deveRecarregarAgendaAposInvalidacao() {
+        // Given
+        dayScheduleCache.get("user-123", date);
+
+        // When
+        dayScheduleCache.evict("user-123", date);
+        dayScheduleCache.get("user-123", date);
+        dayScheduleCache.evictAll("user-123");
+        dayScheduleCache.get("user-123", date);
+
+        // Then
+        verify(appointmentRepository, times(3)).findDayScheduleByDateAndUserId(date, "user-123");
+    }
+}
@@ -0,0 +1,71 @@
+package com.clinicboard.business_service.units.infrastructure;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.quartz.HashedTimingWheel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HashedTimingWheel - Testes Unitários")
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private HashedTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        // 8 buckets de 100ms: uma volta completa a cada 800ms
+        wheel = new HashedTimingWheel<>(100, 8, START);
+    }
+
+    @Test
+    @DisplayName("Deve disparar no primeiro tick a partir do prazo, mesmo após várias voltas")
+    void deveDispararNoPrazoAposVariasVoltas() {
+        // Given
+        wheel.schedule("appointment-1", START + 250, "lembrete-1");
+        wheel.schedule("appointment-2", START + 2_450, "lembrete-2");
+
+        // When & Then
+        assertEquals(List.of(), wheel.expire(START + 299));
+        assertEquals(List.of("lembrete-1"), wheel.expire(START + 300));
+        assertEquals(List.of(), wheel.expire(START + 2_499));
+        assertEquals(List.of("lembrete-2"), wheel.expire(START + 2_500));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Deve cancelar e reagendar pela chave do agendamento")
+    void deveCancelarEReagendarPelaChave() {
+        // Given
+        wheel.schedule("appointment-1", START + 200, "lembrete-antigo");
+        wheel.schedule("appointment-2", START + 200, "lembrete-2");
+
+        // When
+        wheel.schedule("appointment-1", START + 1_000, "lembrete-novo");
+        boolean canceled = wheel.cancel("appointment-2");
+
+        // Then
+        assertTrue(canceled);
+        assertFalse(wheel.cancel("appointment-3"));
+        assertEquals(List.of(), wheel.expire(START + 900));
+        assertEquals(List.of("lembrete-novo"), wheel.expire(START + 1_000));
+    }
+
+    @Test
+    @DisplayName("Deve disparar no próximo tick os itens com prazo já vencido")
+    void deveDispararItensComPrazoVencido() {
+        // Given
+        wheel.expire(START + 500);
+
+        // When
+        wheel.schedule("appointment-1", START - 10_000, "atrasado");
+
+        // Then
+        assertEquals(List.of("atrasado"), wheel.expire(START + 600));
+    }
+}
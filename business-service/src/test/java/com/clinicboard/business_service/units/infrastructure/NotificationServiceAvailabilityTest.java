@@ -0,0 +1,61 @@
+package com.clinicboard.business_service.units.infrastructure;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.messaging.NotificationServiceAvailability;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("NotificationServiceAvailability - Testes Unitários")
+class NotificationServiceAvailabilityTest {
+
+    private DiscoveryClient discoveryClient;
+    private NotificationServiceAvailability availability;
+
+    @BeforeEach
+    void setUp() {
+        discoveryClient = Mockito.mock(DiscoveryClient.class);
+        availability = new NotificationServiceAvailability(discoveryClient, "notification-service");
+    }
+
+    @Test
+    @DisplayName("Deve consultar o registro apenas no refresh do cache do Eureka")
+    void deveConsultarRegistroApenasNoRefresh() {
+        // Given
+        when(discoveryClient.getInstances("notification-service")).thenReturn(List.of());
+
+        // When
+        boolean beforeRefresh = availability.isAvailable();
+        availability.onRegistryRefreshed();
+
+        // Then
+        assertTrue(beforeRefresh);
+        assertFalse(availability.isAvailable());
+        assertFalse(availability.isAvailable());
+        verify(discoveryClient, times(1)).getInstances("notification-service");
+    }
+
+    @Test
+    @DisplayName("Deve manter o último estado conhecido quando o registro falhar")
+    void deveManterUltimoEstadoQuandoRegistroFalhar() {
+        // Given
+        when(discoveryClient.getInstances("notification-service"))
+                .thenReturn(List.of(Mockito.mock(ServiceInstance.class)))
+                .thenThrow(new RuntimeException("Eureka indisponível"));
+
+        // When
+        availability.onRegistryRefreshed();
+        availability.onRegistryRefreshed();
+
+        // Then
+        assertTrue(availability.isAvailable());
+    }
+}
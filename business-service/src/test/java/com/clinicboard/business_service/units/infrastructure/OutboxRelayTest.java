@@ -0,0 +1,178 @@
+package com.clinicboard.business_service.units.infrastructure;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.messaging.OutboxRelay;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.OutboxMessage;
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.OutboxRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OutboxRelay - Testes Unitários")
+class OutboxRelayTest {
+
+    private OutboxRepository outboxRepository;
+    private RabbitTemplate rabbitTemplate;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = Mockito.mock(OutboxRepository.class);
+        rabbitTemplate = Mockito.mock(RabbitTemplate.class);
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(rabbitTemplate));
+        TransactionTemplate transactionTemplate = Mockito.mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        outboxRelay = new OutboxRelay(outboxRepository, rabbitTemplate, transactionTemplate, 10,
+                Duration.ofSeconds(1), 3);
+        ReflectionTestUtils.setField(outboxRelay, "dlqExchange", "clinicboard.events.dlq");
+        ReflectionTestUtils.setField(outboxRelay, "dlqRoutingKey", "events.failed");
+    }
+
+    @Test
+    @DisplayName("Deve publicar com o corpo gravado e remover as mensagens confirmadas")
+    void devePublicarERemoverMensagensConfirmadas() {
+        // Given
+        OutboxMessage first = outboxMessage(1L);
+        OutboxMessage second = outboxMessage(2L);
+        when(outboxRepository.lockNextBatch(any(Limit.class))).thenReturn(List.of(first, second));
+        confirmAll();
+
+        // When
+        outboxRelay.drain();
+
+        // Then
+        verify(rabbitTemplate).send(eq("clinicboard.events"), eq("appointment.scheduled"),
+                argThat((Message message) -> "1".equals(message.getMessageProperties().getMessageId())
+                        && "AppointmentScheduledEvent".equals(message.getMessageProperties().getHeader("__TypeId__"))
+                        && "{\"id\":1}".equals(new String(message.getBody()))),
+                any(CorrelationData.class));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Deve enviar o lote inteiro antes de esperar os confirms")
+    void deveEnviarLoteInteiroAntesDeEsperarConfirms() {
+        // Given
+        List<OutboxMessage> batch = List.of(outboxMessage(1L), outboxMessage(2L), outboxMessage(3L));
+        when(outboxRepository.lockNextBatch(any(Limit.class))).thenReturn(batch);
+        List<CorrelationData> unconfirmed = new ArrayList<>();
+        doAnswer(invocation -> unconfirmed.add(invocation.getArgument(3)))
+                .when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        doAnswer(invocation -> {
+            Object result = invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(rabbitTemplate);
+            // Broker só confirma depois que o lote inteiro foi enviado
+            assertEquals(3, unconfirmed.size());
+            unconfirmed.forEach(correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(true, null)));
+            return result;
+        }).when(rabbitTemplate).invoke(any());
+
+        // When
+        outboxRelay.drain();
+
+        // Then
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas as mensagens confirmadas e manter as com nack")
+    void deveRemoverApenasMensagensConfirmadas() {
+        // Given
+        OutboxMessage first = outboxMessage(1L);
+        OutboxMessage second = outboxMessage(2L);
+        OutboxMessage third = outboxMessage(3L);
+        when(outboxRepository.lockNextBatch(any(Limit.class))).thenReturn(List.of(first, second, third));
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(!"2".equals(correlation.getId()), "nack"));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        // When
+        outboxRelay.drain();
+
+        // Then
+        verify(rabbitTemplate, times(3)).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 3L));
+        verify(second).recordFailure(startsWith("nack"));
+        verify(first, never()).recordFailure(any());
+    }
+
+    @Test
+    @DisplayName("Não deve remover mensagens quando o broker estiver indisponível")
+    void naoDeveRemoverMensagensComBrokerIndisponivel() {
+        // Given
+        OutboxMessage first = outboxMessage(1L);
+        when(outboxRepository.lockNextBatch(any(Limit.class))).thenReturn(List.of(first));
+        doThrow(new RuntimeException("Connection refused"))
+                .when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        // When & Then
+        assertDoesNotThrow(() -> outboxRelay.drain());
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("Deve mover para a DLQ a mensagem que atingiu o máximo de tentativas")
+    void deveMoverParaDlqMensagemComMaximoDeTentativas() {
+        // Given
+        OutboxMessage poison = outboxMessage(1L);
+        when(poison.getAttempts()).thenReturn(3);
+        when(poison.getLastError()).thenReturn("nack: PRECONDITION_FAILED");
+        OutboxMessage healthy = outboxMessage(2L);
+        when(outboxRepository.lockNextBatch(any(Limit.class))).thenReturn(List.of(poison, healthy));
+        confirmAll();
+
+        // When
+        outboxRelay.drain();
+
+        // Then
+        verify(rabbitTemplate).send(eq("clinicboard.events.dlq"), eq("events.failed"),
+                argThat((Message message) -> "1".equals(message.getMessageProperties().getMessageId())
+                        && Integer.valueOf(3).equals(message.getMessageProperties().getHeader("x-outbox-attempts"))),
+                any(CorrelationData.class));
+        verify(rabbitTemplate).send(eq("clinicboard.events"), eq("appointment.scheduled"),
+                argThat((Message message) -> "2".equals(message.getMessageProperties().getMessageId())),
+                any(CorrelationData.class));
+        verify(rabbitTemplate, never()).send(eq("clinicboard.events"), anyString(),
+                argThat((Message message) -> "1".equals(message.getMessageProperties().getMessageId())),
+                any(CorrelationData.class));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(2L, 1L));
+    }
+
+    private void confirmAll() {
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private OutboxMessage outboxMessage(Long id) {
+        OutboxMessage message = Mockito.mock(OutboxMessage.class);
+        when(message.getId()).thenReturn(id);
+        when(message.getExchange()).thenReturn("clinicboard.events");
+        when(message.getRoutingKey()).thenReturn("appointment.scheduled");
+        when(message.getTypeId()).thenReturn("AppointmentScheduledEvent");
+        when(message.getPayload()).thenReturn("{\"id\":" + id + "}");
+        return message;
+    }
+}
@@ -0,0 +1,70 @@
+package com.clinicboard.business_service.units.infrastructure;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.PatientNameIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PatientNameIndex - Testes Unitários")
+class PatientNameIndexTest {
+
+    private PatientNameIndex nameIndex;
+
+    @BeforeEach
+    void setUp() {
+        nameIndex = new PatientNameIndex();
+        nameIndex.put("patient-1", "Ana Souza");
+        nameIndex.put("patient-2", "Mariana Lima");
+        nameIndex.put("patient-3", "Luana Anastácio");
+        nameIndex.put("patient-4", "Carlos Pereira");
+    }
+
+    @Test
+    @DisplayName("Deve buscar por trecho do nome priorizando prefixos")
+    void deveBuscarPorTrechoDoNomePriorizandoPrefixos() {
+        // When
+        List<String> result = nameIndex.search("ana", 10);
+
+        // Then
+        assertEquals(List.of("patient-1", "patient-3", "patient-2"), result);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar maiúsculas e respeitar o limite de resultados")
+    void deveIgnorarMaiusculasERespeitarLimite() {
+        // When
+        List<String> result = nameIndex.search("ANA", 1);
+
+        // Then
+        assertEquals(List.of("patient-1"), result);
+    }
+
+    @Test
+    @DisplayName("Deve resolver termos curtos apenas por prefixo do nome")
+    void deveResolverTermosCurtosPorPrefixo() {
+        // When
+        List<String> result = nameIndex.search("ma", 10);
+
+        // Then
+        assertEquals(List.of("patient-2"), result);
+    }
+
+    @Test
+    @DisplayName("Deve refletir renomeação e remoção de pacientes")
+    void deveRefletirRenomeacaoERemocao() {
+        // When
+        nameIndex.put("patient-4", "Carla Pereira");
+        nameIndex.remove("patient-1");
+
+        // Then
+        assertTrue(nameIndex.search("carlos", 10).isEmpty());
+        assertEquals(List.of("patient-4"), nameIndex.search("carla", 10));
+        assertEquals(List.of("patient-3", "patient-2"), nameIndex.search("ana", 10));
+        assertEquals(3, nameIndex.size());
+    }
+}
@@ -0,0 +1,131 @@
+package com.clinicboard.business_service.units.infrastructure;
+
+import com.clinicboard.business_service.infrastructure.adapter.out.persistence.ResourceVersions;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ResourceVersions - Testes Unitários")
+class ResourceVersionsTest {
+
+    private ResourceVersions resourceVersions;
+
+    @BeforeEach
+    void setUp() {
+        resourceVersions = newResourceVersions();
+    }
+
+    @Test
+    @DisplayName("Deve gerar o mesmo ETag em réplicas diferentes para o mesmo conteúdo")
+    void deveGerarMesmoETagEmReplicasDiferentes() {
+        // Given
+        ResourceVersions otherReplica = newResourceVersions();
+        LocalDate day = LocalDate.now().plusDays(1);
+        List<String> appointments = List.of("08:00", "09:00");
+
+        // When
+        String etag = resourceVersions.appointmentsETag("user-123", day, () -> appointments);
+        String otherReplicaETag = otherReplica.appointmentsETag("user-123", day, () -> appointments);
+
+        // Then
+        assertEquals(etag, otherReplicaETag);
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+    }
+
+    @Test
+    @DisplayName("Deve recalcular o ETag apenas da agenda do dia modificado")
+    void deveRecalcularETagApenasDaAgendaDoDiaModificado() {
+        // Given
+        LocalDate day = LocalDate.now().plusDays(1);
+        LocalDate otherDay = day.plusDays(1);
+        List<String> appointments = new ArrayList<>(List.of("08:00"));
+        AtomicInteger otherDayLoads = new AtomicInteger();
+        String dayETag = resourceVersions.appointmentsETag("user-123", day, () -> appointments);
+        String otherDayETag = resourceVersions.appointmentsETag("user-123", otherDay,
+                () -> List.of(otherDayLoads.incrementAndGet()));
+
+        // When
+        appointments.add("09:00");
+        String cachedDayETag = resourceVersions.appointmentsETag("user-123", day, () -> appointments);
+        resourceVersions.appointmentsChanged("user-123", day);
+
+        // Then
+        assertEquals(dayETag, cachedDayETag);
+        assertNotEquals(dayETag, resourceVersions.appointmentsETag("user-123", day, () -> appointments));
+        assertEquals(otherDayETag, resourceVersions.appointmentsETag("user-123", otherDay,
+                () -> List.of(otherDayLoads.incrementAndGet())));
+        assertEquals(1, otherDayLoads.get());
+    }
+
+    @Test
+    @DisplayName("Deve descartar o ETag de todos os dias e manter o dos pacientes de outros profissionais")
+    void deveDescartarETagDeTodosOsDias() {
+        // Given
+        LocalDate day = LocalDate.now().plusDays(1);
+        AtomicInteger dayLoads = new AtomicInteger();
+        AtomicInteger patientLoads = new AtomicInteger();
+        resourceVersions.appointmentsETag("user-123", day, () -> List.of(dayLoads.incrementAndGet()));
+        resourceVersions.patientsETag("user-456", () -> List.of(patientLoads.incrementAndGet()));
+
+        // When
+        resourceVersions.allAppointmentsChanged("user-123");
+        resourceVersions.patientsChanged("user-123");
+        resourceVersions.appointmentsETag("user-123", day, () -> List.of(dayLoads.incrementAndGet()));
+        resourceVersions.patientsETag("user-456", () -> List.of(patientLoads.incrementAndGet()));
+
+        // Then
+        assertEquals(2, dayLoads.get());
+        assertEquals(1, patientLoads.get());
+    }
+
+    @Test
+    @DisplayName("Não deve manter em memória um ETag calculado durante uma escrita")
+    void naoDeveManterETagCalculadoDuranteEscrita() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When - a escrita acontece enquanto a listagem é carregada
+        resourceVersions.patientsETag("user-123", () -> {
+            loads.incrementAndGet();
+            resourceVersions.patientsChanged("user-123");
+            return List.of("antes da escrita");
+        });
+        resourceVersions.patientsETag("user-123", () -> List.of(loads.incrementAndGet()));
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Deve recalcular o ETag depois do TTL mesmo sem invalidação")
+    void deveRecalcularETagDepoisDoTtl() throws InterruptedException {
+        // Given - uma invalidação perdida: nenhuma escrita é aplicada nesta réplica
+        ResourceVersions shortLived = new ResourceVersions(new ObjectMapper(), 100, Duration.ofMillis(50),
+                new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        shortLived.patientsETag("user-123", () -> List.of(loads.incrementAndGet()));
+
+        // When
+        Thread.sleep(100);
+        shortLived.patientsETag("user-123", () -> List.of(loads.incrementAndGet()));
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    private static ResourceVersions newResourceVersions() {
+        return new ResourceVersions(new ObjectMapper(), 100_000, Duration.ofMinutes(10), new SimpleMeterRegistry());
+    }
+}
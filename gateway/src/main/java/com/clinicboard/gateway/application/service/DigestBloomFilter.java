@@ -0,0 +1,64 @@
+package com.clinicboard.gateway.application.service;
+
+import java.util.Collection;
+
+/**
+ * Bloom filter imutável de digests SHA-256 (hexadecimal).
+ *
+ * Como os elementos já são hashes criptográficos, as k posições são
+ * derivadas diretamente dos primeiros 128 bits do digest (double hashing),
+ * sem recalcular hash. "false" é definitivo; "true" significa "talvez" e
+ * precisa ser confirmado na fonte.
+ */
+public final class DigestBloomFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_EXPECTED_ENTRIES = 1024;
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private DigestBloomFilter(long bitCount, int hashCount) {
+        this.bits = new long[(int) ((bitCount + 63) / 64)];
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Cria um filtro dimensionado para os digests informados (taxa de falso
+     * positivo de ~1%).
+     */
+    public static DigestBloomFilter of(Collection<String> digests) {
+        int expected = Math.max(digests.size(), MIN_EXPECTED_ENTRIES);
+        long bitCount = (long) Math.ceil(-expected * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2)));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+
+        DigestBloomFilter filter = new DigestBloomFilter(bitCount, hashCount);
+        for (String digest : digests) {
+            filter.add(digest);
+        }
+        return filter;
+    }
+
+    public boolean mightContain(String digest) {
+        long h1 = Long.parseUnsignedLong(digest, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(digest, 16, 32, 16);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(String digest) {
+        long h1 = Long.parseUnsignedLong(digest, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(digest, 16, 32, 16);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+}
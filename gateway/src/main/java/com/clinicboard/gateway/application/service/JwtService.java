@@ -5,10 +5,17 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Serviço responsável pela validação e extração de dados dos tokens JWT.
  * 
@@ -21,66 +28,136 @@ import com.auth0.jwt.interfaces.DecodedJWT;
  * - Verificação de issuer para segurança
  * - Extração de claims customizados
  * - Programação reativa com Mono<>
+ * 
+ * Verificadores:
+ * - Os JWTVerifier (e o Algorithm/Mac por trás deles) são criados uma única
+ * vez na construção do serviço e reutilizados em todas as requisições
+ * - Rotação de chaves: além da chave atual, chaves anteriores podem ser
+ * configuradas em api.security.token.previous-keys ("kid:secret,...").
+ * Tokens com header "kid" usam o verificador daquela chave; tokens sem
+ * "kid" (emitidos antes da rotação) são testados na ordem: atual, anteriores
+ * - {@link #verify(String)} não lança exceção: issuer e expiração são
+ * checados antes da assinatura, então tokens expirados (o caso comum) não
+ * geram exceção nem stack trace no caminho reativo
  */
 @Service
 public class JwtService {
 
-    // Chave secreta compartilhada com o User Service (deve ser a mesma!)
-    private final String secret;
+    private static final String ISSUER = "clinicboard-backend";
+
+    // Verificadores por kid, na ordem de tentativa (chave atual primeiro)
+    private final Map<String, JWTVerifier> verifiersByKeyId;
 
     /**
-     * Construtor que injeta a chave secreta do JWT.
+     * Construtor que monta os verificadores a partir das chaves configuradas.
      * 
-     * IMPORTANTE: Esta chave DEVE ser idêntica à usada no User Service
+     * IMPORTANTE: A chave atual DEVE ser idêntica à usada no User Service
      * para que a validação funcione corretamente.
      * 
-     * @param secret Chave secreta configurada em application.properties
+     * @param secret       Chave secreta atual configurada em application.properties
+     * @param keyId        kid da chave atual (vazio quando não há rotação)
+     * @param previousKeys Chaves ainda aceitas durante a rotação, no formato
+     *                     "kid:secret,kid:secret"
      */
-    public JwtService(@Value("${api.security.token.secret}") String secret) {
-        this.secret = secret;
+    public JwtService(
+            @Value("${api.security.token.secret}") String secret,
+            @Value("${api.security.token.key-id:}") String keyId,
+            @Value("${api.security.token.previous-keys:}") String previousKeys) {
+        Map<String, JWTVerifier> verifiers = new LinkedHashMap<>();
+        verifiers.put(keyId == null ? "" : keyId.trim(), buildVerifier(secret));
+
+        if (previousKeys != null && !previousKeys.isBlank()) {
+            for (String entry : previousKeys.split(",")) {
+                int separator = entry.indexOf(':');
+                if (separator <= 0 || separator == entry.length() - 1) {
+                    throw new IllegalArgumentException(
+                            "api.security.token.previous-keys deve seguir o formato kid:secret");
+                }
+                verifiers.putIfAbsent(entry.substring(0, separator).trim(),
+                        buildVerifier(entry.substring(separator + 1).trim()));
+            }
+        }
+        this.verifiersByKeyId = Collections.unmodifiableMap(verifiers);
     }
 
     /**
-     * Valida um token JWT e retorna apenas o subject (ID do usuário).
-     * 
-     * Método simplificado usado para validações básicas onde só
-     * precisamos saber se o token é válido e o ID do usuário.
+     * Valida o token sem lançar exceção.
      * 
      * Processo de validação:
-     * 1. Configura algoritmo HMAC256 com chave secreta
-     * 2. Verifica assinatura criptográfica do token
-     * 3. Valida issuer (deve ser "clinicboard-backend")
-     * 4. Verifica se token não expirou
-     * 5. Retorna subject (user ID) se tudo válido
+     * 1. Decodifica o token (sem verificar)
+     * 2. Checa issuer e expiração a partir dos claims decodificados
+     * 3. Seleciona o verificador pelo "kid" e verifica a assinatura
+     * 4. Extrai os claims customizados
      * 
      * @param token JWT completo (sem "Bearer " prefix)
-     * @return Mono<String> - ID do usuário ou erro se inválido
+     * @return ValidationResult com os claims, ou com o motivo da rejeição
      */
-    public Mono<String> validateToken(String token) {
+    public ValidationResult verify(String token) {
+        if (token == null || token.isBlank()) {
+            return ValidationResult.invalid("Token ausente");
+        }
+
+        DecodedJWT decodedJWT;
         try {
-            // Configura algoritmo de validação (HMAC256 + chave secreta)
-            Algorithm algorithm = Algorithm.HMAC256(secret);
+            decodedJWT = JWT.decode(token);
+        } catch (JWTDecodeException exception) {
+            return ValidationResult.invalid("Token malformado");
+        }
 
-            // Cria validador com regras específicas
-            DecodedJWT decodedJWT = JWT.require(algorithm)
-                    .withIssuer("clinicboard-backend") // Deve ser emitido pelo nosso sistema
-                    .build()
-                    .verify(token); // Executa a validação completa
+        if (!ISSUER.equals(decodedJWT.getIssuer())) {
+            return ValidationResult.invalid("Issuer inválido");
+        }
+        Instant expiresAt = decodedJWT.getExpiresAtAsInstant();
+        if (expiresAt != null && !Instant.now().isBefore(expiresAt)) {
+            return ValidationResult.invalid("Token expirado");
+        }
 
-            // Se chegou aqui, token é válido - retorna o subject (user ID)
-            return Mono.just(decodedJWT.getSubject());
+        String keyId = decodedJWT.getKeyId();
+        if (keyId != null) {
+            JWTVerifier verifier = verifiersByKeyId.get(keyId);
+            if (verifier == null) {
+                return ValidationResult.invalid("Chave de assinatura desconhecida: " + keyId);
+            }
+            return verifyWith(verifier, decodedJWT);
+        }
 
-        } catch (JWTVerificationException exception) {
-            // Token inválido, expirado, assinatura incorreta, etc.
-            return Mono.error(new RuntimeException("Invalid JWT token: " + exception.getMessage()));
+        ValidationResult result = ValidationResult.invalid("Assinatura inválida");
+        for (JWTVerifier verifier : verifiersByKeyId.values()) {
+            result = verifyWith(verifier, decodedJWT);
+            if (result.isValid()) {
+                return result;
+            }
         }
+        return result;
     }
 
     /**
-     * Valida JWT e extrai TODOS os claims necessários para o Gateway.
+     * Expiração de um token já validado por {@link #verify(String)}.
+     *
+     * @return instante de expiração, ou null se o token não tiver "exp"
+     */
+    public Instant expiresAt(String token) {
+        return JWT.decode(token).getExpiresAtAsInstant();
+    }
+
+    /**
+     * Valida um token JWT e retorna apenas o subject (ID do usuário).
+     * 
+     * Método simplificado usado para validações básicas onde só
+     * precisamos saber se o token é válido e o ID do usuário.
      * 
-     * Este é o método principal usado pelo AuthenticationGatewayFilter
-     * para obter informações completas do usuário sem consultar o User Service.
+     * @param token JWT completo (sem "Bearer " prefix)
+     * @return Mono<String> - ID do usuário ou erro se inválido
+     */
+    public Mono<String> validateToken(String token) {
+        ValidationResult result = verify(token);
+        return result.isValid()
+                ? Mono.just(result.getClaims().getUserId())
+                : Mono.error(new RuntimeException("Invalid JWT token: " + result.getReason()));
+    }
+
+    /**
+     * Valida JWT e extrai TODOS os claims necessários para o Gateway.
      * 
      * Claims extraídos:
      * - subject: ID único do usuário (UUID)
@@ -89,45 +166,77 @@ public class JwtService {
      * - name: Nome completo do usuário
      * - contact: Telefone/contato do usuário
      * 
-     * Processo:
-     * 1. Valida token (assinatura, issuer, expiração)
-     * 2. Extrai todos os claims customizados
-     * 3. Encapsula em objeto JwtClaims
-     * 4. Retorna de forma reativa
+     * No caminho quente prefira {@link #verify(String)}, que não cria exceção
+     * para tokens inválidos.
      * 
      * @param token JWT completo para validação e extração
      * @return Mono<JwtClaims> - Objeto com todos os dados do usuário ou erro
      */
     public Mono<JwtClaims> validateTokenAndExtractClaims(String token) {
-        try {
-            // Configura algoritmo de validação (mesmo do método anterior)
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-
-            // Executa validação completa do token
-            DecodedJWT decodedJWT = JWT.require(algorithm)
-                    .withIssuer("clinicboard-backend") // Segurança: só aceita nossos tokens
-                    .build()
-                    .verify(token); // Valida assinatura + expiração + issuer
-
-            // Extrai claims do JWT validado
-            // IMPORTANTE: Estes claims devem estar presentes no JWT gerado pelo User
-            // Service
-            String userId = decodedJWT.getSubject(); // Subject = ID do usuário
-            String email = decodedJWT.getClaim("email").asString(); // Email customizado
-            String role = decodedJWT.getClaim("role").asString(); // Role customizado
-            String name = decodedJWT.getClaim("name").asString(); // Nome customizado
-            String contact = decodedJWT.getClaim("contact").asString(); // Contato customizado
-
-            // Encapsula todos os dados em objeto imutável
-            JwtClaims claims = new JwtClaims(userId, email, role, name, contact);
-
-            // Retorna de forma reativa para integração com Spring WebFlux
-            return Mono.just(claims);
+        ValidationResult result = verify(token);
+        return result.isValid()
+                ? Mono.just(result.getClaims())
+                : Mono.error(new RuntimeException("Invalid JWT token: " + result.getReason()));
+    }
 
+    private static JWTVerifier buildVerifier(String secret) {
+        return JWT.require(Algorithm.HMAC256(secret))
+                .withIssuer(ISSUER) // Segurança: só aceita nossos tokens
+                .build();
+    }
+
+    private static ValidationResult verifyWith(JWTVerifier verifier, DecodedJWT decodedJWT) {
+        try {
+            // Valida assinatura + expiração + issuer sem decodificar de novo
+            DecodedJWT verified = verifier.verify(decodedJWT);
+            return ValidationResult.valid(new JwtClaims(
+                    verified.getSubject(),
+                    verified.getClaim("email").asString(),
+                    verified.getClaim("role").asString(),
+                    verified.getClaim("name").asString(),
+                    verified.getClaim("contact").asString()));
         } catch (JWTVerificationException exception) {
-            // Qualquer problema na validação (token inválido, expirado, claims ausentes,
-            // etc.)
-            return Mono.error(new RuntimeException("Invalid JWT token: " + exception.getMessage()));
+            return ValidationResult.invalid(exception.getMessage());
+        }
+    }
+
+    /**
+     * Resultado da validação de um token: claims quando válido, motivo da
+     * rejeição quando inválido.
+     */
+    public static final class ValidationResult {
+        private final JwtClaims claims;
+        private final String reason;
+
+        private ValidationResult(JwtClaims claims, String reason) {
+            this.claims = claims;
+            this.reason = reason;
+        }
+
+        public static ValidationResult valid(JwtClaims claims) {
+            return new ValidationResult(claims, null);
+        }
+
+        public static ValidationResult invalid(String reason) {
+            return new ValidationResult(null, reason);
+        }
+
+        public boolean isValid() {
+            return claims != null;
+        }
+
+        /**
+         * @return Claims do token, ou null se inválido
+         */
+        public JwtClaims getClaims() {
+            return claims;
+        }
+
+        /**
+         * @return Motivo da rejeição, ou null se válido
+         */
+        public String getReason() {
+            return reason;
         }
     }
 
@@ -6,6 +6,11 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
 import com.clinicboard.gateway.model.UserInfo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 import java.time.Duration;
 
@@ -16,53 +21,123 @@ import java.time.Duration;
  * do Gateway, evitando revalidação desnecessária de JWTs para o mesmo usuário.
  * 
  * Arquitetura:
- * - Cache Key: "user_info:{hash_do_token}"
+ * - L1: cache local (Caffeine) por instância do Gateway, limitado em tamanho
+ * e com TTL curto, chaveado pelo SHA-256 do token
+ * - L2: Redis, compartilhado entre instâncias
+ * - Cache Key: "user_info:{sha256_do_token}"
+ * - Migração: com app.cache.user-info.legacy-key-fallback=true, um miss na
+ * chave nova consulta a chave antiga ("user_info:{token.hashCode()}"). Como
+ * o hash de 32 bits pode colidir (ou ser forjado), o valor antigo só é aceito
+ * se o token for válido e o seu subject for o mesmo usuário do cache; nesse
+ * caso ele é promovido para a chave nova
  * - TTL: Configurável via application.properties
  * - Invalidação automática: Por expiração ou manual
+ *
+ * Métricas do L1 (hit, miss, eviction, tamanho) são exportadas no Micrometer
+ * com o nome de cache "user_info_local".
  */
 @Service
 public class RedisService {
 
+    private static final String CACHE_KEY_PREFIX = "user_info:";
+
     // Template reativo do Redis para operações assíncronas
     private final ReactiveRedisTemplate<String, UserInfo> redisTemplate;
 
     // Time To Live (TTL) em segundos - tempo que os dados ficam no cache
     private final long userInfoTtl;
 
+    // Cache local (L1) - evita ida ao Redis para chamadas repetidas do mesmo token
+    private final Cache<String, UserInfo> localCache;
+
+    // Leitura das chaves antigas (hashCode) durante o rollout da chave SHA-256
+    private final boolean legacyKeyFallback;
+    private final JwtService jwtService;
+
+    // Escrita em lote dos stores no Redis
+    private final boolean writeBehindEnabled;
+    private final UserInfoCacheWriter cacheWriter;
+
     /**
      * Construtor que injeta dependências do Redis e configuração de TTL.
      * 
      * @param redisTemplate Template reativo para operações Redis
      * @param userInfoTtl   TTL em segundos (padrão: 3600s = 1 hora)
+     * @param localMaxSize  Quantidade máxima de tokens no cache local
+     * @param localTtl      TTL em segundos do cache local (padrão: 30s)
+     * @param meterRegistry Registro de métricas do Micrometer
+     * @param legacyKeyFallback Consulta as chaves antigas em caso de miss
+     * @param jwtService    Validação do token antes de aceitar uma chave antiga
+     * @param writeBehindEnabled Agrupa os stores em lotes no Redis
+     * @param cacheWriter   Buffer de escrita em lote
      */
     public RedisService(
             ReactiveRedisTemplate<String, UserInfo> redisTemplate,
-            @Value("${app.cache.user-info.ttl:3600}") long userInfoTtl) {
+            @Value("${app.cache.user-info.ttl:3600}") long userInfoTtl,
+            @Value("${app.cache.user-info.local.max-size:10000}") long localMaxSize,
+            @Value("${app.cache.user-info.local.ttl:30}") long localTtl,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.user-info.legacy-key-fallback:false}") boolean legacyKeyFallback,
+            JwtService jwtService,
+            @Value("${app.cache.user-info.write-behind.enabled:true}") boolean writeBehindEnabled,
+            UserInfoCacheWriter cacheWriter) {
         this.redisTemplate = redisTemplate;
+        this.writeBehindEnabled = writeBehindEnabled;
+        this.cacheWriter = cacheWriter;
+        this.legacyKeyFallback = legacyKeyFallback;
+        this.jwtService = jwtService;
         this.userInfoTtl = userInfoTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                // Nunca mantém localmente por mais tempo que o próprio Redis
+                .expireAfterWrite(Duration.ofSeconds(Math.min(localTtl, userInfoTtl)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "user_info_local");
     }
 
     /**
      * Busca informações do usuário no cache usando o token JWT como chave.
      * 
      * Fluxo:
-     * 1. Gera chave de cache a partir do hash do token
-     * 2. Busca no Redis de forma assíncrona
-     * 3. Filtra apenas dados não expirados
-     * 4. Log de sucesso/erro para observabilidade
+     * 1. Gera o digest do token
+     * 2. Consulta o cache local (L1); se encontrar, retorna sem ir à rede
+     * 3. Busca no Redis de forma assíncrona e popula o L1
+     * 4. Filtra apenas dados não expirados
+     * 5. Log de sucesso/erro para observabilidade
      * 
      * @param token JWT do usuário
      * @return Mono<UserInfo> - Dados do usuário se encontrados e válidos, empty()
      *         se não
      */
     public Mono<UserInfo> getUserFromCache(String token) {
-        // Gera chave única baseada no hash do token (segurança + performance)
-        String cacheKey = generateCacheKey(token);
+        return getUserFromCache(token, TokenDigest.sha256Hex(token));
+    }
 
-        return redisTemplate.opsForValue()
-                .get(cacheKey) // Busca assíncrona no Redis
+    /**
+     * Mesmo que {@link #getUserFromCache(String)}, reaproveitando o digest já
+     * calculado pelo chamador.
+     */
+    public Mono<UserInfo> getUserFromCache(String token, String tokenDigest) {
+        // L1: lookup local, sem ida à rede
+        UserInfo localUserInfo = getLocalUser(tokenDigest);
+        if (localUserInfo != null) {
+            return Mono.just(localUserInfo);
+        }
+
+        // Chave do Redis derivada do mesmo digest
+        String cacheKey = cacheKeyOf(tokenDigest);
+
+        Mono<UserInfo> redisLookup = redisTemplate.opsForValue().get(cacheKey); // Busca assíncrona no Redis
+        if (legacyKeyFallback) {
+            redisLookup = redisLookup.switchIfEmpty(Mono.defer(() -> readLegacyKey(token, cacheKey)));
+        }
+
+        return redisLookup
                 // Filtra apenas se os dados ainda estão válidos (não expirados)
                 .filter(userInfo -> !userInfo.isExpired(userInfoTtl))
+                // Popula o L1 para as próximas requisições deste token
+                .doOnNext(userInfo -> localCache.put(tokenDigest, userInfo))
                 // Log para debugging - mostra quando cache foi usado
                 .doOnNext(userInfo -> System.out.println("✅ Cache HIT para usuário: " + userInfo.getEmail()))
                 // Log de erros de conexão com Redis
@@ -74,7 +149,8 @@ public class RedisService {
      * 
      * Fluxo:
      * 1. Gera chave de cache
-     * 2. Armazena no Redis com TTL automático
+     * 2. Armazena no L1 e agenda a escrita em lote no Redis (write-behind);
+     * com write-behind desligado, armazena direto no Redis com TTL automático
      * 3. Log de confirmação
      * 4. Retorna o UserInfo para continuar o fluxo
      * 
@@ -83,13 +159,29 @@ public class RedisService {
      * @return Mono<UserInfo> - Mesmos dados passados, para encadeamento
      */
     public Mono<UserInfo> cacheUser(String token, UserInfo userInfo) {
+        return cacheUser(token, TokenDigest.sha256Hex(token), userInfo);
+    }
+
+    /**
+     * Mesmo que {@link #cacheUser(String, UserInfo)}, reaproveitando o digest
+     * já calculado pelo chamador.
+     */
+    public Mono<UserInfo> cacheUser(String token, String tokenDigest, UserInfo userInfo) {
         // Gera chave única para este usuário/token
-        String cacheKey = generateCacheKey(token);
+        String cacheKey = cacheKeyOf(tokenDigest);
+
+        if (writeBehindEnabled) {
+            // L1 imediato; Redis no próximo flush em lote do UserInfoCacheWriter
+            localCache.put(tokenDigest, userInfo);
+            cacheWriter.enqueue(cacheKey, userInfo);
+            return Mono.just(userInfo);
+        }
 
         return redisTemplate.opsForValue()
                 // Armazena com TTL - Redis remove automaticamente após expirar
                 .set(cacheKey, userInfo, Duration.ofSeconds(userInfoTtl))
                 // Log para confirmar que dados foram armazenados
+                .doOnSuccess(success -> localCache.put(tokenDigest, userInfo))
                 .doOnSuccess(success -> System.out.println("💾 Cache STORE para usuário: " + userInfo.getEmail()))
                 // Log de erros de conexão/armazenamento
                 .doOnError(error -> System.err.println("❌ Erro ao armazenar cache: " + error.getMessage()))
@@ -109,10 +201,21 @@ public class RedisService {
      * @return Mono<Boolean> - true se removido com sucesso, false se não existia
      */
     public Mono<Boolean> invalidateUserCache(String token) {
+        // Remove também do L1 desta instância
+        String tokenDigest = TokenDigest.sha256Hex(token);
+        localCache.invalidate(tokenDigest);
+
         // Gera a mesma chave usada para armazenar
-        String cacheKey = generateCacheKey(token);
+        String cacheKey = cacheKeyOf(tokenDigest);
+
+        // Um store ainda no buffer de escrita em lote regravaria a chave
+        cacheWriter.cancel(cacheKey);
+
+        Mono<Long> deletion = legacyKeyFallback
+                ? redisTemplate.delete(cacheKey, legacyCacheKey(token))
+                : redisTemplate.delete(cacheKey);
 
-        return redisTemplate.delete(cacheKey)
+        return deletion
                 // Converte número de itens deletados para boolean
                 .map(deletedCount -> deletedCount > 0)
                 // Log para confirmar invalidação
@@ -120,21 +223,58 @@ public class RedisService {
     }
 
     /**
-     * Gera chave única para o cache baseada no hash do token.
+     * Consulta apenas o cache local (L1), sem ida à rede.
+     * 
+     * @param tokenDigest SHA-256 do token, gerado por {@link TokenDigest}
+     * @return UserInfo válido do L1, ou null
+     */
+    public UserInfo getLocalUser(String tokenDigest) {
+        UserInfo localUserInfo = localCache.getIfPresent(tokenDigest);
+        if (localUserInfo != null && localUserInfo.isExpired(userInfoTtl)) {
+            localCache.invalidate(tokenDigest);
+            return null;
+        }
+        return localUserInfo;
+    }
+
+    /**
+     * Lê a chave antiga e, se confirmada, promove o valor para a chave nova.
+     */
+    private Mono<UserInfo> readLegacyKey(String token, String cacheKey) {
+        return redisTemplate.opsForValue()
+                .get(legacyCacheKey(token))
+                .filter(userInfo -> isSameUser(token, userInfo))
+                .flatMap(userInfo -> redisTemplate.opsForValue()
+                        .set(cacheKey, userInfo, Duration.ofSeconds(userInfoTtl))
+                        .thenReturn(userInfo));
+    }
+
+    private boolean isSameUser(String token, UserInfo userInfo) {
+        JwtService.ValidationResult result = jwtService.verify(token);
+        return result.isValid() && result.getClaims().getUserId() != null
+                && result.getClaims().getUserId().equals(userInfo.getUserId());
+    }
+
+    /**
+     * Gera chave única para o cache baseada no digest do token.
      * 
      * Estratégia de segurança:
      * - Não armazena o token JWT completo no Redis
-     * - Usa hash do token como identificador único
-     * - Prefixo "user_info:" para organização e evitar colisões
+     * - Usa o SHA-256 do token como identificador (sem colisões práticas,
+     * ao contrário do hashCode de 32 bits usado antes)
+     * - Prefixo "user_info:" para organização do namespace
      * 
-     * Exemplo: "user_info:123456789" onde 123456789 é token.hashCode()
+     * Exemplo: "user_info:9f86d081884c7d65..." (64 caracteres hexadecimais)
      * 
-     * @param token JWT completo
+     * @param tokenDigest SHA-256 do token, gerado por {@link TokenDigest}
      * @return String chave única para o Redis
      */
-    private String generateCacheKey(String token) {
-        // Usa hash do token para evitar armazenar token completo (segurança)
-        // + prefixo para organizar namespace no Redis
-        return "user_info:" + token.hashCode();
+    private static String cacheKeyOf(String tokenDigest) {
+        return CACHE_KEY_PREFIX + tokenDigest;
+    }
+
+    // Formato antigo da chave, lido apenas durante a migração
+    private static String legacyCacheKey(String token) {
+        return CACHE_KEY_PREFIX + token.hashCode();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package com.clinicboard.gateway.application.service;
+
+import java.time.Duration;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Invalida o cache de respostas do profissional quando o business-service
+ * publica eventos de agendamento (marcação, remarcação, cancelamento) ou de
+ * paciente.
+ *
+ * Os eventos são lidos como JSON genérico: o Gateway só precisa do campo
+ * professionalId e não depende das classes de evento do business-service.
+ */
+@Component
+public class ResponseCacheInvalidationListener {
+
+    private static final Duration INVALIDATION_TIMEOUT = Duration.ofSeconds(2);
+
+    private final ResponseCacheService responseCacheService;
+    private final ObjectMapper objectMapper;
+
+    public ResponseCacheInvalidationListener(ResponseCacheService responseCacheService, ObjectMapper objectMapper) {
+        this.responseCacheService = responseCacheService;
+        this.objectMapper = objectMapper;
+    }
+
+    @RabbitListener(queues = "${app.messaging.queue.response-cache-invalidation}")
+    public void onEvent(Message message) {
+        String professionalId;
+        try {
+            JsonNode event = objectMapper.readTree(message.getBody());
+            professionalId = event.path("professionalId").asText(null);
+        } catch (Exception e) {
+            System.err.println("❌ Evento inválido para invalidação do cache de respostas: " + e.getMessage());
+            return;
+        }
+
+        if (professionalId == null || professionalId.isBlank()) {
+            return;
+        }
+
+        // Thread do listener, fora do event loop: pode aguardar o Redis
+        responseCacheService.invalidate(professionalId).block(INVALIDATION_TIMEOUT);
+    }
+}
@@ -0,0 +1,78 @@
+package com.clinicboard.gateway.application.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.clinicboard.gateway.model.CachedResponse;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache de respostas GET do business-service no Redis.
+ *
+ * As respostas ficam em um hash por profissional dono dos dados
+ * (response_cache:{userId}), com um campo por requisição. Assim, um evento
+ * de agendamento ou paciente invalida de uma vez todas as respostas daquele
+ * profissional com um único DEL.
+ *
+ * O EXPIRE vale para o hash inteiro e é renovado a cada escrita; por isso
+ * cada entrada também guarda o instante em que foi cacheada e é descartada
+ * na leitura quando passa do TTL. Erros do Redis nunca derrubam a
+ * requisição: o cache é ignorado.
+ */
+@Service
+public class ResponseCacheService {
+
+    private static final String CACHE_KEY_PREFIX = "response_cache:";
+
+    private final ReactiveRedisTemplate<String, CachedResponse> redisTemplate;
+    private final Duration ttl;
+
+    public ResponseCacheService(
+            ReactiveRedisTemplate<String, CachedResponse> redisTemplate,
+            @Value("${app.response-cache.ttl:60s}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    public Mono<CachedResponse> get(String ownerId, String field) {
+        return redisTemplate.<String, CachedResponse>opsForHash()
+                .get(cacheKeyOf(ownerId), field)
+                .filter(cached -> !cached.isExpired(ttl.toSeconds()))
+                .onErrorResume(error -> {
+                    System.err.println("❌ Erro ao ler cache de respostas: " + error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<Void> put(String ownerId, String field, CachedResponse response) {
+        String key = cacheKeyOf(ownerId);
+        return redisTemplate.<String, CachedResponse>opsForHash()
+                .put(key, field, response)
+                .then(redisTemplate.expire(key, ttl))
+                .onErrorResume(error -> {
+                    System.err.println("❌ Erro ao armazenar cache de respostas: " + error.getMessage());
+                    return Mono.just(false);
+                })
+                .then();
+    }
+
+    /**
+     * Remove todas as respostas cacheadas do profissional.
+     */
+    public Mono<Boolean> invalidate(String ownerId) {
+        return redisTemplate.delete(cacheKeyOf(ownerId))
+                .map(deleted -> deleted > 0)
+                .onErrorResume(error -> {
+                    System.err.println("❌ Erro ao invalidar cache de respostas: " + error.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    private static String cacheKeyOf(String ownerId) {
+        return CACHE_KEY_PREFIX + ownerId;
+    }
+}
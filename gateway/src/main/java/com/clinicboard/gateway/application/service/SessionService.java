@@ -0,0 +1,62 @@
+package com.clinicboard.gateway.application.service;
+
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Encerramento de sessão (logout) no Gateway.
+ *
+ * O token é revogado até a sua expiração ({@link TokenRevocationService}) e a
+ * sua entrada no cache de UserInfo é removida ({@link RedisService}). Como a
+ * denylist é checada antes do cache, inclusive do cache local (L1), outras
+ * instâncias passam a recusá-lo em até um intervalo de atualização do Bloom
+ * filter (app.auth.revocation.refresh-interval).
+ */
+@Service
+public class SessionService {
+
+    private final JwtService jwtService;
+    private final RedisService redisService;
+    private final TokenRevocationService tokenRevocationService;
+
+    // Usado quando o token não tem "exp": mesma janela do cache de UserInfo
+    private final long fallbackTtl;
+
+    public SessionService(
+            JwtService jwtService,
+            RedisService redisService,
+            TokenRevocationService tokenRevocationService,
+            @Value("${app.cache.user-info.ttl:3600}") long fallbackTtl) {
+        this.jwtService = jwtService;
+        this.redisService = redisService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.fallbackTtl = fallbackTtl;
+    }
+
+    /**
+     * Revoga o token e remove o seu UserInfo do cache.
+     *
+     * @param token JWT completo (sem o prefixo "Bearer ")
+     * @return false se o token for inválido (nada é revogado)
+     */
+    public Mono<Boolean> logout(String token) {
+        if (!jwtService.verify(token).isValid()) {
+            return Mono.just(false);
+        }
+
+        Instant expiresAt = jwtService.expiresAt(token);
+        if (expiresAt == null) {
+            expiresAt = Instant.now().plusSeconds(fallbackTtl);
+        }
+
+        // Revoga antes de invalidar o cache: uma requisição concorrente já encontra o token na denylist
+        return tokenRevocationService.revoke(TokenDigest.sha256Hex(token), expiresAt)
+                .then(redisService.invalidateUserCache(token))
+                .doOnSuccess(ignored -> System.out.println("🔒 Token revogado no logout"))
+                .thenReturn(true);
+    }
+}
@@ -0,0 +1,40 @@
+package com.clinicboard.gateway.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Digest SHA-256 de tokens JWT, usado como chave de cache.
+ *
+ * O token completo nunca é usado como chave: apenas o seu digest, em
+ * hexadecimal. Cada thread reutiliza a sua própria instância de
+ * MessageDigest, evitando a alocação e a busca do provider a cada requisição
+ * no event loop.
+ */
+public final class TokenDigest {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível na JVM", e);
+        }
+    });
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private TokenDigest() {
+    }
+
+    /**
+     * @param token JWT completo (sem o prefixo "Bearer ")
+     * @return SHA-256 do token em hexadecimal (64 caracteres)
+     */
+    public static String sha256Hex(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return HEX.formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+}
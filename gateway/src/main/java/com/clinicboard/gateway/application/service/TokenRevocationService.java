@@ -0,0 +1,114 @@
+package com.clinicboard.gateway.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lista de tokens revogados (denylist), alimentada pelo logout
+ * ({@link SessionService}).
+ *
+ * Consultada pelo AuthenticationGatewayFilter em toda requisição, nos dois
+ * modos de autenticação (no modo cached, antes do cache de UserInfo).
+ *
+ * Armazenamento:
+ * - Redis ZSET "auth:revoked": membro = SHA-256 do token, score = expiração
+ * do token em epoch seconds (entradas vencidas são removidas na atualização)
+ *
+ * Consulta:
+ * - Um Bloom filter com todos os digests revogados é reconstruído em
+ * background a cada app.auth.revocation.refresh-interval
+ * - "Não está no filtro" responde sem ir ao Redis (caso de quase todas as
+ * requisições); "talvez esteja" é confirmado com ZSCORE
+ * - Enquanto o primeiro snapshot não estiver pronto, toda consulta vai ao Redis
+ *
+ * Uma revogação feita em outra instância pode levar até um intervalo de
+ * atualização para ser vista aqui.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final String REVOKED_KEY = "auth:revoked";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final Duration refreshInterval;
+
+    private volatile DigestBloomFilter snapshot;
+    private Disposable refreshTask;
+
+    public TokenRevocationService(
+            ReactiveStringRedisTemplate redisTemplate,
+            @Value("${app.auth.revocation.refresh-interval:10s}") Duration refreshInterval) {
+        this.redisTemplate = redisTemplate;
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Inicia a atualização periódica do snapshot.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRefresh() {
+        refreshTask = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refreshSnapshot()
+                        .onErrorResume(error -> {
+                            System.err.println("❌ Erro ao atualizar denylist de tokens: " + error.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stopRefresh() {
+        if (refreshTask != null) {
+            refreshTask.dispose();
+        }
+    }
+
+    /**
+     * Verifica se o token (pelo seu digest) foi revogado.
+     */
+    public Mono<Boolean> isRevoked(String tokenDigest) {
+        DigestBloomFilter current = snapshot;
+        if (current != null && !current.mightContain(tokenDigest)) {
+            return Mono.just(false);
+        }
+        return redisTemplate.opsForZSet()
+                .score(REVOKED_KEY, tokenDigest)
+                .map(expiresAt -> expiresAt > Instant.now().getEpochSecond())
+                .defaultIfEmpty(false);
+    }
+
+    /**
+     * Revoga o token até a sua expiração.
+     *
+     * @param tokenDigest SHA-256 do token, gerado por {@link TokenDigest}
+     * @param expiresAt   expiração do token; depois dela a entrada é descartada
+     */
+    public Mono<Boolean> revoke(String tokenDigest, Instant expiresAt) {
+        return redisTemplate.opsForZSet().add(REVOKED_KEY, tokenDigest, expiresAt.getEpochSecond())
+                // Revogação visível nesta instância sem esperar o próximo refresh
+                .flatMap(added -> refreshSnapshot().thenReturn(added));
+    }
+
+    private Mono<Void> refreshSnapshot() {
+        double now = Instant.now().getEpochSecond();
+        return redisTemplate.opsForZSet()
+                .removeRangeByScore(REVOKED_KEY, Range.closed(Double.NEGATIVE_INFINITY, now))
+                .thenMany(redisTemplate.opsForZSet().range(REVOKED_KEY, Range.unbounded()))
+                .collectList()
+                .doOnNext(digests -> snapshot = DigestBloomFilter.of(digests))
+                .then();
+    }
+}
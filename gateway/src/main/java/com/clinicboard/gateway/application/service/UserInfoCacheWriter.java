@@ -0,0 +1,163 @@
+package com.clinicboard.gateway.application.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.clinicboard.gateway.model.UserInfo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Escrita em lote (write-behind) do cache de UserInfo no Redis.
+ *
+ * Em vez de um SET por requisição, os stores ficam pendentes em memória e
+ * são enviados a cada app.cache.user-info.write-behind.flush-interval:
+ * - Coalescência: a chave pendente é o próprio digest do token, então
+ * stores repetidos do mesmo token entre dois flushes viram um único SET
+ * - Pipeline: o lote é emitido em rajada de SET EX na conexão compartilhada
+ * do Lettuce, sem esperar a resposta de cada comando
+ * - Backpressure: se o flush anterior ainda não terminou (Redis lento), o
+ * ciclo é pulado; se o buffer atingir max-pending, novos stores são
+ * descartados (o valor continua no cache local e será regravado no
+ * próximo miss)
+ *
+ * Métricas: gateway.cache.user_info.write_behind.pending (gauge),
+ * .flushed e .dropped (counters).
+ */
+@Service
+public class UserInfoCacheWriter {
+
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(2);
+
+    private final ReactiveRedisTemplate<String, UserInfo> redisTemplate;
+    private final Duration ttl;
+    private final Duration flushInterval;
+    private final int batchSize;
+    private final int maxPending;
+
+    private final Map<String, UserInfo> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+
+    private Disposable flushTask;
+
+    public UserInfoCacheWriter(
+            ReactiveRedisTemplate<String, UserInfo> redisTemplate,
+            @Value("${app.cache.user-info.ttl:3600}") long userInfoTtl,
+            @Value("${app.cache.user-info.write-behind.flush-interval:50ms}") Duration flushInterval,
+            @Value("${app.cache.user-info.write-behind.batch-size:500}") int batchSize,
+            @Value("${app.cache.user-info.write-behind.max-pending:10000}") int maxPending,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofSeconds(userInfoTtl);
+        this.flushInterval = flushInterval;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.flushedCounter = meterRegistry.counter("gateway.cache.user_info.write_behind.flushed");
+        this.droppedCounter = meterRegistry.counter("gateway.cache.user_info.write_behind.dropped");
+        meterRegistry.gaugeMapSize("gateway.cache.user_info.write_behind.pending", List.of(), pending);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        flushTask = Flux.interval(flushInterval)
+                .onBackpressureDrop()
+                .subscribe(tick -> {
+                    if (!pending.isEmpty() && flushing.compareAndSet(false, true)) {
+                        flush().doFinally(signal -> flushing.set(false)).subscribe();
+                    }
+                });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flushTask != null) {
+            flushTask.dispose();
+        }
+        // Melhor esforço: envia o que ficou pendente antes de desligar
+        try {
+            while (!pending.isEmpty()) {
+                flush().block(SHUTDOWN_FLUSH_TIMEOUT);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("❌ Stores pendentes descartados no desligamento: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Agenda a gravação da chave. Não bloqueia nem espera o Redis.
+     *
+     * @return false se o buffer estiver cheio e o store foi descartado
+     */
+    public boolean enqueue(String cacheKey, UserInfo userInfo) {
+        if (pending.size() >= maxPending && !pending.containsKey(cacheKey)) {
+            droppedCounter.increment();
+            return false;
+        }
+        pending.put(cacheKey, userInfo);
+        return true;
+    }
+
+    /**
+     * Descarta o store pendente da chave, se houver. Deve ser chamado antes
+     * de remover a chave do Redis na invalidação, senão o próximo flush
+     * regrava o valor invalidado.
+     *
+     * @return true se havia um store pendente
+     */
+    public boolean cancel(String cacheKey) {
+        return pending.remove(cacheKey) != null;
+    }
+
+    Mono<Void> flush() {
+        List<Map.Entry<String, UserInfo>> batch = drainBatch();
+        if (batch.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(batch)
+                // Concorrência = tamanho do lote: todos os SETs saem em pipeline
+                .flatMap(entry -> redisTemplate.opsForValue()
+                        .set(entry.getKey(), entry.getValue(), ttl)
+                        .onErrorResume(error -> {
+                            droppedCounter.increment();
+                            System.err.println("❌ Erro ao armazenar cache: " + error.getMessage());
+                            return Mono.just(false);
+                        }), batch.size())
+                .doOnNext(stored -> {
+                    if (stored) {
+                        flushedCounter.increment();
+                    }
+                })
+                .then();
+    }
+
+    private List<Map.Entry<String, UserInfo>> drainBatch() {
+        List<Map.Entry<String, UserInfo>> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        Iterator<String> keys = pending.keySet().iterator();
+        while (keys.hasNext() && batch.size() < batchSize) {
+            String key = keys.next();
+            UserInfo userInfo = pending.remove(key);
+            if (userInfo != null) {
+                batch.add(Map.entry(key, userInfo));
+            }
+        }
+        return batch;
+    }
+}
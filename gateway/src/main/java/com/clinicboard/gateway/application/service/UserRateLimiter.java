@@ -0,0 +1,120 @@
+package com.clinicboard.gateway.application.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.clinicboard.gateway.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rate limiter distribuído por usuário e rota (token bucket).
+ *
+ * - O bucket fica no Redis e é atualizado de forma atômica pelo script
+ * scripts/token_bucket.lua, usando o relógio do Redis
+ * - Pré-admissão local: cada chamada ao Redis arrenda até lease-size tokens;
+ * as requisições seguintes do mesmo usuário/rota consomem o lote local sem
+ * ida à rede, até ele acabar ou expirar (lease-ttl). O excesso possível é de
+ * lease-size tokens por instância do Gateway
+ * - Falha no Redis libera a requisição (fail-open): a autenticação continua
+ * sendo obrigatória e o limite volta assim que o Redis responder
+ */
+@Service
+public class UserRateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    private final RedisScript<Long> tokenBucketScript;
+    private final Cache<String, LocalLease> leases;
+    private final MeterRegistry meterRegistry;
+
+    public UserRateLimiter(
+            ReactiveStringRedisTemplate redisTemplate,
+            RateLimitProperties properties,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.tokenBucketScript = RedisScript.of(new ClassPathResource("scripts/token_bucket.lua"), Long.class);
+        this.leases = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getLeaseTtl())
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * @return true se a requisição pode seguir, false se o limite foi atingido
+     */
+    public Mono<Boolean> tryAcquire(String routeId, String userId) {
+        String key = KEY_PREFIX + routeId + ":" + userId;
+
+        LocalLease lease = leases.getIfPresent(key);
+        if (lease != null && lease.tryTake()) {
+            return Mono.just(true);
+        }
+
+        RateLimitProperties.Limit limit = properties.limitFor(routeId);
+        int requested = Math.max(1, Math.min(properties.getLeaseSize(), limit.getBurstCapacity()));
+
+        return redisTemplate.execute(tokenBucketScript, List.of(key),
+                List.of(String.valueOf(limit.getReplenishRate()),
+                        String.valueOf(limit.getBurstCapacity()),
+                        String.valueOf(requested)))
+                .next()
+                .map(granted -> {
+                    if (granted <= 0) {
+                        meterRegistry.counter("gateway.rate_limit.rejected", "route", routeId).increment();
+                        return false;
+                    }
+                    if (granted > 1) {
+                        // Misses simultâneos do mesmo usuário/rota arrendam cada um o seu
+                        // lote: soma ao lote existente em vez de descartar tokens já
+                        // retirados do bucket compartilhado
+                        leases.asMap().merge(key, new LocalLease(granted - 1), LocalLease::absorb);
+                    }
+                    return true;
+                })
+                .defaultIfEmpty(true)
+                .onErrorResume(error -> {
+                    System.err.println("❌ Erro no rate limiter, liberando requisição: " + error.getMessage());
+                    return Mono.just(true);
+                });
+    }
+
+    /**
+     * Tokens arrendados do Redis, consumidos localmente.
+     */
+    static final class LocalLease {
+        private final AtomicLong remaining;
+
+        LocalLease(long tokens) {
+            this.remaining = new AtomicLong(tokens);
+        }
+
+        LocalLease absorb(LocalLease other) {
+            remaining.addAndGet(Math.max(0, other.remaining.getAndSet(0)));
+            return this;
+        }
+
+        boolean tryTake() {
+            long current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.clinicboard.gateway.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.http.HttpStatus;
@@ -11,20 +12,46 @@ import reactor.core.publisher.Mono;
 import com.clinicboard.gateway.model.UserInfo;
 import com.clinicboard.gateway.application.service.JwtService;
 import com.clinicboard.gateway.application.service.RedisService;
+import com.clinicboard.gateway.application.service.TokenDigest;
+import com.clinicboard.gateway.application.service.TokenRevocationService;
 
 import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Filtro de autenticação das rotas protegidas.
+ *
+ * Modos (app.auth.mode):
+ * - cached (padrão): UserInfo vem do cache (local + Redis); em miss, o JWT é
+ * validado e o resultado é cacheado. Misses concorrentes do mesmo token são
+ * agrupados (single-flight) em uma única validação e escrita
+ * - Nos dois modos todo token passa pela denylist de revogados (logout), também
+ * nos hits do cache: o L1 de outra instância ainda pode ter o token. Na
+ * maioria das requisições ela é resolvida pelo Bloom filter em memória
+ * - stateless: os claims vêm direto do JWT validado localmente; o Redis é
+ * usado apenas para checar a denylist
+ */
 @Component
 public class AuthenticationGatewayFilter implements GatewayFilter {
 
     private final JwtService jwtService;
     private final RedisService redisService;
+    private final TokenRevocationService tokenRevocationService;
+    private final boolean stateless;
+
+    // Validações em andamento por digest do token (single-flight)
+    private final Map<String, Mono<UserInfo>> inFlightValidations = new ConcurrentHashMap<>();
 
     public AuthenticationGatewayFilter(
             JwtService jwtService,
-            RedisService redisService) {
+            RedisService redisService,
+            TokenRevocationService tokenRevocationService,
+            @Value("${app.auth.mode:cached}") String authMode) {
         this.jwtService = jwtService;
         this.redisService = redisService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.stateless = "stateless".equalsIgnoreCase(authMode);
     }
 
     @Override
@@ -38,7 +65,9 @@ public class AuthenticationGatewayFilter implements GatewayFilter {
 
         String token = authHeader.substring(7);
 
-        return validateTokenWithCache(token)
+        Mono<UserInfo> authentication = stateless ? validateTokenStateless(token) : validateTokenWithCache(token);
+
+        return authentication
                 .flatMap(userInfo -> {
                     // Adiciona headers com informações do usuário
                     ServerHttpRequest modifiedRequest = request.mutate()
@@ -52,33 +81,82 @@ public class AuthenticationGatewayFilter implements GatewayFilter {
                             .request(modifiedRequest)
                             .build();
 
-                    return chain.filter(modifiedExchange);
+                    // Sinaliza que a requisição foi autenticada (o chain completa vazio)
+                    return chain.filter(modifiedExchange).thenReturn(Boolean.TRUE);
                 })
+                // Token inválido: validateTokenWithCache completa vazio, sem exceção
+                .switchIfEmpty(Mono.defer(() -> unauthorized(exchange).thenReturn(Boolean.TRUE)))
                 .onErrorResume(throwable -> {
                     System.err.println("❌ Erro na autenticação: " + throwable.getMessage());
-                    return unauthorized(exchange);
-                });
+                    return unauthorized(exchange).thenReturn(Boolean.TRUE);
+                })
+                .then();
     }
 
     private Mono<UserInfo> validateTokenWithCache(String token) {
-        return redisService.getUserFromCache(token)
-                .switchIfEmpty(
-                        // Cache MISS - Valida JWT localmente e extrai claims
-                        jwtService.validateTokenAndExtractClaims(token)
-                                .flatMap(claims -> {
-                                    // Criar UserInfo a partir dos claims do JWT
-                                    UserInfo userInfo = new UserInfo(
-                                            claims.getUserId(),
-                                            claims.getEmail(),
-                                            claims.getRole(),
-                                            claims.getName(),
-                                            claims.getContact(),
-                                            Instant.now());
-
-                                    // Cachear para próximas requisições
-                                    return redisService.cacheUser(token, userInfo)
-                                            .thenReturn(userInfo);
-                                }));
+        String tokenDigest = TokenDigest.sha256Hex(token);
+
+        // Revogado no logout (em qualquer instância): recusa mesmo com o token em cache
+        return tokenRevocationService.isRevoked(tokenDigest)
+                .filter(revoked -> !revoked)
+                .flatMap(notRevoked -> resolveCached(token, tokenDigest));
+    }
+
+    private Mono<UserInfo> resolveCached(String token, String tokenDigest) {
+        // Hit no cache local: resolve sem rede e sem coordenação
+        UserInfo localUserInfo = redisService.getLocalUser(tokenDigest);
+        if (localUserInfo != null) {
+            return Mono.just(localUserInfo);
+        }
+
+        // Single-flight: requisições concorrentes do mesmo token compartilham
+        // uma única consulta ao Redis, validação e escrita
+        Mono<UserInfo> resolution = resolveUserInfo(token, tokenDigest).cache();
+        Mono<UserInfo> inFlight = inFlightValidations.putIfAbsent(tokenDigest, resolution);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        return resolution.doFinally(signal -> inFlightValidations.remove(tokenDigest, resolution));
+    }
+
+    private Mono<UserInfo> resolveUserInfo(String token, String tokenDigest) {
+        return redisService.getUserFromCache(token, tokenDigest)
+                .switchIfEmpty(Mono.defer(() -> {
+                    // Cache MISS - Valida JWT localmente (sem exceção para token inválido)
+                    JwtService.ValidationResult result = jwtService.verify(token);
+                    if (!result.isValid()) {
+                        return Mono.empty();
+                    }
+
+                    // Criar UserInfo a partir dos claims do JWT
+                    UserInfo userInfo = toUserInfo(result.getClaims());
+
+                    // Cachear para próximas requisições
+                    return redisService.cacheUser(token, tokenDigest, userInfo)
+                            .thenReturn(userInfo);
+                }));
+    }
+
+    private Mono<UserInfo> validateTokenStateless(String token) {
+        JwtService.ValidationResult result = jwtService.verify(token);
+        if (!result.isValid()) {
+            return Mono.empty();
+        }
+
+        // Única consulta externa: denylist (normalmente resolvida pelo Bloom filter local)
+        return tokenRevocationService.isRevoked(TokenDigest.sha256Hex(token))
+                .filter(revoked -> !revoked)
+                .map(notRevoked -> toUserInfo(result.getClaims()));
+    }
+
+    private UserInfo toUserInfo(JwtService.JwtClaims claims) {
+        return new UserInfo(
+                claims.getUserId(),
+                claims.getEmail(),
+                claims.getRole(),
+                claims.getName(),
+                claims.getContact(),
+                Instant.now());
     }
 
     private Mono<Void> unauthorized(ServerWebExchange exchange) {
@@ -37,7 +37,9 @@ public class CorsConfig {
                 "Access-Control-Request-Method",
                 "Access-Control-Request-Headers"));
 
-        
+        // Cabeçalhos de resposta legíveis pelo front-end (paginação por cursor)
+        configuration.setExposedHeaders(Arrays.asList("X-Next-Cursor", "ETag"));
+
         configuration.setAllowCredentials(true);
 
         configuration.setMaxAge(3600L);
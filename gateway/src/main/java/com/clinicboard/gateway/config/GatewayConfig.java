@@ -9,9 +9,15 @@ import org.springframework.context.annotation.Configuration;
 public class GatewayConfig {
 
         private final AuthenticationGatewayFilter authenticationGatewayFilter;
+        private final RateLimitGatewayFilter rateLimitGatewayFilter;
+        private final ResponseCacheGatewayFilter responseCacheGatewayFilter;
 
-        public GatewayConfig(AuthenticationGatewayFilter authenticationGatewayFilter) {
+        public GatewayConfig(AuthenticationGatewayFilter authenticationGatewayFilter,
+                        RateLimitGatewayFilter rateLimitGatewayFilter,
+                        ResponseCacheGatewayFilter responseCacheGatewayFilter) {
                 this.authenticationGatewayFilter = authenticationGatewayFilter;
+                this.rateLimitGatewayFilter = rateLimitGatewayFilter;
+                this.responseCacheGatewayFilter = responseCacheGatewayFilter;
         }
 
         @Bean
@@ -44,7 +50,7 @@ public class GatewayConfig {
                                                 .uri("lb://business-service"))
 
                                 // =================================================================
-                                // 🔒 PROTECTED ROUTES (COM AUTENTICAÇÃO)
+                                // 🔒 PROTECTED ROUTES (COM AUTENTICAÇÃO + RATE LIMIT POR USUÁRIO)
                                 // =================================================================
 
                                 // User Service - Admin only routes
@@ -52,6 +58,7 @@ public class GatewayConfig {
                                                 .and().method("GET", "DELETE")
                                                 .filters(f -> f
                                                                 .filter(authenticationGatewayFilter)
+                                                                .filter(rateLimitGatewayFilter.forRoute("user-service-users-admin"))
                                                                 .rewritePath("/user-service/(?<segment>.*)",
                                                                                 "/${segment}"))
                                                 .uri("lb://user-service"))
@@ -60,14 +67,31 @@ public class GatewayConfig {
                                 .route("user-service-users-general", r -> r.path("/user-service/users/**")
                                                 .filters(f -> f
                                                                 .filter(authenticationGatewayFilter)
+                                                                .filter(rateLimitGatewayFilter.forRoute("user-service-users-general"))
                                                                 .rewritePath("/user-service/(?<segment>.*)",
                                                                                 "/${segment}"))
                                                 .uri("lb://user-service"))
 
+                                // Business Service - GETs de agenda e pacientes com cache de respostas
+                                // (mesmo limite da rota protegida; invalidado pelos eventos do clinicboard.events)
+                                .route("business-service-cached", r -> r
+                                                .path("/business-service/appointments/{userId}/date",
+                                                                "/business-service/appointments/{userId}/available",
+                                                                "/business-service/patients/user/{userId}")
+                                                .and().method("GET")
+                                                .filters(f -> f
+                                                                .filter(authenticationGatewayFilter)
+                                                                .filter(rateLimitGatewayFilter.forRoute("business-service-protected"))
+                                                                .filter(responseCacheGatewayFilter)
+                                                                .rewritePath("/business-service/(?<segment>.*)",
+                                                                                "/${segment}"))
+                                                .uri("lb://business-service"))
+
                                 // Business Service - All routes protected
                                 .route("business-service-protected", r -> r.path("/business-service/**")
                                                 .filters(f -> f
                                                                 .filter(authenticationGatewayFilter)
+                                                                .filter(rateLimitGatewayFilter.forRoute("business-service-protected"))
                                                                 .rewritePath("/business-service/(?<segment>.*)",
                                                                                 "/${segment}"))
                                                 .uri("lb://business-service"))
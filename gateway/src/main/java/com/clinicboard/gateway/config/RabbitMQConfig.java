@@ -0,0 +1,58 @@
+package com.clinicboard.gateway.config;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuração do RabbitMQ do Gateway.
+ *
+ * O Gateway apenas consome, do exchange clinicboard.events publicado pelo
+ * business-service, os eventos que alteram a agenda ou os pacientes de um
+ * profissional, para invalidar o cache de respostas. A fila é compartilhada
+ * entre as réplicas: a invalidação é um DEL no Redis, basta uma réplica
+ * processar cada evento.
+ */
+@Configuration
+public class RabbitMQConfig {
+
+    @Value("${app.messaging.exchange.events}")
+    private String eventsExchange;
+
+    @Value("${app.messaging.queue.response-cache-invalidation}")
+    private String invalidationQueue;
+
+    @Value("${app.messaging.routing-key.response-cache-invalidation}")
+    private List<String> invalidationRoutingKeys;
+
+    @Bean
+    public TopicExchange eventsExchange() {
+        return new TopicExchange(eventsExchange, true, false);
+    }
+
+    @Bean
+    public Queue responseCacheInvalidationQueue() {
+        return QueueBuilder.durable(invalidationQueue).build();
+    }
+
+    @Bean
+    public Declarables responseCacheInvalidationBindings() {
+        List<Binding> bindings = new ArrayList<>();
+        for (String routingKey : invalidationRoutingKeys) {
+            bindings.add(BindingBuilder
+                    .bind(responseCacheInvalidationQueue())
+                    .to(eventsExchange())
+                    .with(routingKey.trim()));
+        }
+        return new Declarables(bindings);
+    }
+}
@@ -0,0 +1,47 @@
+package com.clinicboard.gateway.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import com.clinicboard.gateway.application.service.UserRateLimiter;
+
+/**
+ * Cria o filtro de rate limit de cada rota protegida.
+ *
+ * Deve ser aplicado depois do {@link AuthenticationGatewayFilter}, pois usa o
+ * header X-User-Id resolvido por ele como chave do limite. Requisições acima
+ * do limite recebem 429 com Retry-After.
+ */
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitGatewayFilter {
+
+    private final UserRateLimiter userRateLimiter;
+    private final RateLimitProperties properties;
+
+    public RateLimitGatewayFilter(UserRateLimiter userRateLimiter, RateLimitProperties properties) {
+        this.userRateLimiter = userRateLimiter;
+        this.properties = properties;
+    }
+
+    public GatewayFilter forRoute(String routeId) {
+        return (exchange, chain) -> {
+            String userId = exchange.getRequest().getHeaders().getFirst("X-User-Id");
+            if (!properties.isEnabled() || userId == null) {
+                return chain.filter(exchange);
+            }
+            return userRateLimiter.tryAcquire(routeId, userId)
+                    .flatMap(allowed -> allowed ? chain.filter(exchange) : tooManyRequests(exchange));
+        };
+    }
+
+    private Mono<Void> tooManyRequests(ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        exchange.getResponse().getHeaders().set("Retry-After", "1");
+        return exchange.getResponse().setComplete();
+    }
+}
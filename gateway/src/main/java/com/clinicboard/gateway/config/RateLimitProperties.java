@@ -0,0 +1,61 @@
+package com.clinicboard.gateway.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limites de requisições por usuário nas rotas protegidas (app.rate-limit.*).
+ *
+ * Exemplo:
+ * app.rate-limit.default-limit.replenish-rate=20
+ * app.rate-limit.default-limit.burst-capacity=40
+ * app.rate-limit.routes.business-service-protected.replenish-rate=10
+ *
+ * Rotas sem configuração própria usam default-limit.
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Tokens arrendados do Redis por chamada e mantidos localmente
+    private int leaseSize = 5;
+
+    // Validade do lote local; tokens não usados nesse tempo são descartados
+    private Duration leaseTtl = Duration.ofSeconds(1);
+
+    private Limit defaultLimit = new Limit();
+
+    private Map<String, Limit> routes = new HashMap<>();
+
+    public Limit limitFor(String routeId) {
+        return routes.getOrDefault(routeId, defaultLimit);
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public int getLeaseSize() { return leaseSize; }
+    public void setLeaseSize(int leaseSize) { this.leaseSize = leaseSize; }
+    public Duration getLeaseTtl() { return leaseTtl; }
+    public void setLeaseTtl(Duration leaseTtl) { this.leaseTtl = leaseTtl; }
+    public Limit getDefaultLimit() { return defaultLimit; }
+    public void setDefaultLimit(Limit defaultLimit) { this.defaultLimit = defaultLimit; }
+    public Map<String, Limit> getRoutes() { return routes; }
+    public void setRoutes(Map<String, Limit> routes) { this.routes = routes; }
+
+    /**
+     * Token bucket: replenishRate tokens por segundo, até burstCapacity.
+     */
+    public static class Limit {
+        private int replenishRate = 20;
+        private int burstCapacity = 40;
+
+        public int getReplenishRate() { return replenishRate; }
+        public void setReplenishRate(int replenishRate) { this.replenishRate = replenishRate; }
+        public int getBurstCapacity() { return burstCapacity; }
+        public void setBurstCapacity(int burstCapacity) { this.burstCapacity = burstCapacity; }
+    }
+}
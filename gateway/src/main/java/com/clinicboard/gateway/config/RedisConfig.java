@@ -8,6 +8,7 @@ import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.clinicboard.gateway.model.CachedResponse;
 import com.clinicboard.gateway.model.UserInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -40,4 +41,28 @@ public class RedisConfig {
         
         return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
     }
-}
\ No newline at end of file
+
+    @Bean
+    public ReactiveRedisTemplate<String, CachedResponse> responseCacheRedisTemplate(
+            ReactiveRedisConnectionFactory connectionFactory) {
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+
+        Jackson2JsonRedisSerializer<CachedResponse> valueSerializer =
+            new Jackson2JsonRedisSerializer<>(objectMapper, CachedResponse.class);
+
+        StringRedisSerializer stringSerializer = new StringRedisSerializer();
+
+        // Respostas ficam em um hash por profissional: response_cache:{userId} -> {campo: resposta}
+        RedisSerializationContext<String, CachedResponse> serializationContext =
+            RedisSerializationContext.<String, CachedResponse>newSerializationContext()
+                .key(stringSerializer)
+                .value(valueSerializer)
+                .hashKey(stringSerializer)
+                .hashValue(valueSerializer)
+                .build();
+
+        return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
+    }
+}
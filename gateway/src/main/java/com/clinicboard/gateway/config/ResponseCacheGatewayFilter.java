@@ -0,0 +1,180 @@
+package com.clinicboard.gateway.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import com.clinicboard.gateway.application.service.ResponseCacheService;
+import com.clinicboard.gateway.application.service.TokenDigest;
+import com.clinicboard.gateway.model.CachedResponse;
+
+/**
+ * Cache de respostas para GETs idempotentes do business-service (agenda do
+ * dia, horários livres e pacientes do profissional).
+ *
+ * Deve ser aplicado depois do {@link AuthenticationGatewayFilter}: a chave
+ * da resposta é X-User-Id + path + query, e o dono dos dados é a variável
+ * {userId} do path da rota, usada para agrupar e invalidar as respostas
+ * quando chegam eventos de agendamento/paciente do clinicboard.events.
+ *
+ * - HIT: responde do Redis, sem chamar o business-service
+ * - MISS: repassa a requisição e guarda respostas 200 de até
+ * app.response-cache.max-body-size bytes
+ * - ETag em toda resposta (o do business-service ou, na falta dele, o
+ * SHA-256 do corpo); If-None-Match igual ao ETag devolve 304 sem corpo
+ */
+@Component
+public class ResponseCacheGatewayFilter implements GatewayFilter {
+
+    private static final String OWNER_VARIABLE = "userId";
+    private static final String CACHE_HEADER = "X-Cache";
+
+    private final ResponseCacheService responseCacheService;
+    private final boolean enabled;
+    private final int maxBodySize;
+
+    public ResponseCacheGatewayFilter(
+            ResponseCacheService responseCacheService,
+            @Value("${app.response-cache.enabled:true}") boolean enabled,
+            @Value("${app.response-cache.max-body-size:262144}") int maxBodySize) {
+        this.responseCacheService = responseCacheService;
+        this.enabled = enabled;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String userId = request.getHeaders().getFirst("X-User-Id");
+        String ownerId = ownerOf(exchange);
+        if (!enabled || request.getMethod() != HttpMethod.GET || userId == null || ownerId == null) {
+            return chain.filter(exchange);
+        }
+
+        String field = fieldOf(userId, request);
+        return responseCacheService.get(ownerId, field)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(cached -> cached
+                        .map(response -> writeCached(exchange, response))
+                        .orElseGet(() -> chain.filter(exchange.mutate()
+                                .response(new CachingResponse(exchange, ownerId, field))
+                                .build())));
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setETag(cached.getEtag());
+        response.getHeaders().set(CACHE_HEADER, "HIT");
+
+        if (matchesIfNoneMatch(exchange, cached.getEtag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        byte[] body = cached.getBody().getBytes(StandardCharsets.UTF_8);
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.getContentType() != null) {
+            response.getHeaders().set("Content-Type", cached.getContentType());
+        }
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    /**
+     * Resposta que, em um MISS, junta o corpo vindo do business-service para
+     * calcular o ETag e guardá-lo no cache antes de repassá-lo ao cliente.
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final String ownerId;
+        private final String field;
+
+        CachingResponse(ServerWebExchange exchange, String ownerId, String field) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.ownerId = ownerId;
+            this.field = field;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!HttpStatus.OK.equals(getStatusCode())) {
+                return super.writeWith(body);
+            }
+
+            // join de um corpo vazio não emite nada, por isso o Optional
+            return DataBufferUtils.join(Flux.from(body))
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(joined -> joined
+                            .map(this::writeAndCache)
+                            .orElseGet(() -> super.writeWith(Flux.empty())));
+        }
+
+        private Mono<Void> writeAndCache(DataBuffer joined) {
+            byte[] bytes = new byte[joined.readableByteCount()];
+            joined.read(bytes);
+            DataBufferUtils.release(joined);
+
+            String content = new String(bytes, StandardCharsets.UTF_8);
+            // Mantém o ETag de versão do business-service quando houver
+            String etag = getHeaders().getETag() != null
+                    ? getHeaders().getETag()
+                    : "\"" + TokenDigest.sha256Hex(content) + "\"";
+            getHeaders().setETag(etag);
+            getHeaders().set(CACHE_HEADER, "MISS");
+
+            if (bytes.length <= maxBodySize) {
+                MediaType contentType = getHeaders().getContentType();
+                // Não atrasa a resposta: a escrita no Redis segue em segundo plano
+                responseCacheService.put(ownerId, field, new CachedResponse(etag,
+                        contentType != null ? contentType.toString() : null, content, null))
+                        .subscribe();
+            }
+
+            if (matchesIfNoneMatch(exchange, etag)) {
+                getHeaders().remove("Content-Length");
+                setStatusCode(HttpStatus.NOT_MODIFIED);
+                return setComplete();
+            }
+            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+        }
+    }
+
+    private static boolean matchesIfNoneMatch(ServerWebExchange exchange, String etag) {
+        List<String> ifNoneMatch = exchange.getRequest().getHeaders().getIfNoneMatch();
+        return ifNoneMatch.contains(etag) || ifNoneMatch.contains("*");
+    }
+
+    private static String ownerOf(ServerWebExchange exchange) {
+        Map<String, String> variables = ServerWebExchangeUtils.getUriTemplateVariables(exchange);
+        return variables.get(OWNER_VARIABLE);
+    }
+
+    private static String fieldOf(String userId, ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String path = request.getURI().getRawPath();
+        return userId + "|" + (query == null ? path : path + "?" + query);
+    }
+}
@@ -0,0 +1,37 @@
+package com.clinicboard.gateway.config;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.clinicboard.gateway.application.service.SessionService;
+
+/**
+ * Endpoints atendidos pelo próprio Gateway (não roteados para os serviços).
+ *
+ * POST /auth/logout com "Authorization: Bearer {token}": revoga o token.
+ * Responde 204, ou 401 se o token estiver ausente ou for inválido.
+ */
+@Configuration
+public class SessionRoutesConfig {
+
+        @Bean
+        public RouterFunction<ServerResponse> sessionRoutes(SessionService sessionService) {
+                return route(POST("/auth/logout"), request -> {
+                        String authHeader = request.headers().firstHeader("Authorization");
+                        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                                return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
+                        }
+
+                        return sessionService.logout(authHeader.substring(7))
+                                        .flatMap(revoked -> revoked
+                                                        ? ServerResponse.noContent().build()
+                                                        : ServerResponse.status(HttpStatus.UNAUTHORIZED).build());
+                });
+        }
+}
@@ -0,0 +1,38 @@
+package com.clinicboard.gateway.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+/**
+ * Resposta GET armazenada no cache de respostas do Gateway.
+ */
+public class CachedResponse {
+    private final String etag;
+    private final String contentType;
+    private final String body;
+    private final Instant cachedAt;
+
+    @JsonCreator
+    public CachedResponse(
+            @JsonProperty("etag") String etag,
+            @JsonProperty("contentType") String contentType,
+            @JsonProperty("body") String body,
+            @JsonProperty("cachedAt") Instant cachedAt) {
+        this.etag = etag;
+        this.contentType = contentType;
+        this.body = body;
+        this.cachedAt = cachedAt != null ? cachedAt : Instant.now();
+    }
+
+    // Getters
+    public String getEtag() { return etag; }
+    public String getContentType() { return contentType; }
+    public String getBody() { return body; }
+    public Instant getCachedAt() { return cachedAt; }
+
+    public boolean isExpired(long ttlSeconds) {
+        return Instant.now().isAfter(cachedAt.plusSeconds(ttlSeconds));
+    }
+}
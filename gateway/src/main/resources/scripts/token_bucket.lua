@@ -0,0 +1,33 @@
+-- Token bucket atômico por chave.
+-- KEYS[1]: chave do bucket (hash com "tokens" e "ts")
+-- ARGV[1]: reposição (tokens por segundo)
+-- ARGV[2]: capacidade (burst)
+-- ARGV[3]: tokens pedidos (lote arrendado pelo gateway)
+-- Retorna a quantidade concedida (0 a ARGV[3]).
+
+local key = KEYS[1]
+local rate = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+-- Relógio do próprio Redis, para não depender do relógio de cada instância
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+
+redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', tostring(now))
+redis.call('PEXPIRE', key, math.ceil(capacity / rate * 1000) + 1000)
+
+return granted
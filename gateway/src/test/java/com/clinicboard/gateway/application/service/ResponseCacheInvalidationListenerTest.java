@@ -0,0 +1,67 @@
+package com.clinicboard.gateway.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import reactor.core.publisher.Mono;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ResponseCacheInvalidationListener - Testes Unitários")
+class ResponseCacheInvalidationListenerTest {
+
+    private ResponseCacheService responseCacheService;
+    private ResponseCacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        responseCacheService = Mockito.mock(ResponseCacheService.class);
+        listener = new ResponseCacheInvalidationListener(responseCacheService, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache do profissional do evento")
+    void shouldInvalidateProfessionalCache() {
+        // Given
+        when(responseCacheService.invalidate("user-1")).thenReturn(Mono.just(true));
+
+        // When
+        listener.onEvent(message("{\"eventType\":\"AppointmentCanceled\",\"professionalId\":\"user-1\"}"));
+
+        // Then
+        verify(responseCacheService).invalidate("user-1");
+    }
+
+    @Test
+    @DisplayName("Deve ignorar eventos sem professionalId")
+    void shouldIgnoreEventsWithoutProfessional() {
+        // When
+        listener.onEvent(message("{\"eventType\":\"PatientChanged\",\"professionalId\":\"\"}"));
+        listener.onEvent(message("{\"eventType\":\"PatientChanged\"}"));
+
+        // Then
+        verify(responseCacheService, never()).invalidate(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar mensagens que não são JSON sem lançar exceção")
+    void shouldIgnoreInvalidJson() {
+        // When
+        listener.onEvent(message("not-json"));
+
+        // Then
+        verifyNoInteractions(responseCacheService);
+    }
+
+    private static Message message(String body) {
+        return new Message(body.getBytes(StandardCharsets.UTF_8), new MessageProperties());
+    }
+}
@@ -0,0 +1,116 @@
+package com.clinicboard.gateway.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import com.clinicboard.gateway.model.CachedResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ResponseCacheService - Testes Unitários")
+class ResponseCacheServiceTest {
+
+    private static final String KEY = "response_cache:user-1";
+    private static final String FIELD = "user-1|/appointments/users/user-1";
+
+    private ReactiveRedisTemplate<String, CachedResponse> redisTemplate;
+    private ReactiveHashOperations<String, String, CachedResponse> hashOperations;
+    private ResponseCacheService responseCacheService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = Mockito.mock(ReactiveRedisTemplate.class);
+        hashOperations = Mockito.mock(ReactiveHashOperations.class);
+        doReturn(hashOperations).when(redisTemplate).opsForHash();
+        responseCacheService = new ResponseCacheService(redisTemplate, Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("Deve devolver a resposta cacheada dentro do TTL")
+    void shouldReturnCachedResponseWithinTtl() {
+        // Given
+        CachedResponse cached = new CachedResponse("\"etag\"", "application/json", "[]", Instant.now());
+        when(hashOperations.get(KEY, FIELD)).thenReturn(Mono.just(cached));
+
+        // When
+        CachedResponse result = responseCacheService.get("user-1", FIELD).block();
+
+        // Then
+        assertSame(cached, result);
+    }
+
+    @Test
+    @DisplayName("Deve descartar entradas que passaram do TTL mesmo com o hash ainda no Redis")
+    void shouldDiscardEntriesOlderThanTtl() {
+        // Given
+        CachedResponse cached = new CachedResponse("\"etag\"", "application/json", "[]",
+                Instant.now().minusSeconds(61));
+        when(hashOperations.get(KEY, FIELD)).thenReturn(Mono.just(cached));
+
+        // When / Then
+        assertNull(responseCacheService.get("user-1", FIELD).block());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar o cache quando o Redis falhar na leitura")
+    void shouldIgnoreRedisErrorsOnGet() {
+        // Given
+        when(hashOperations.get(KEY, FIELD)).thenReturn(Mono.error(new IllegalStateException("redis down")));
+
+        // When / Then
+        assertNull(responseCacheService.get("user-1", FIELD).block());
+    }
+
+    @Test
+    @DisplayName("Deve gravar a resposta no hash do profissional e renovar o EXPIRE")
+    void shouldPutResponseAndRenewExpire() {
+        // Given
+        CachedResponse cached = new CachedResponse("\"etag\"", "application/json", "[]", null);
+        when(hashOperations.put(KEY, FIELD, cached)).thenReturn(Mono.just(true));
+        when(redisTemplate.expire(KEY, Duration.ofSeconds(60))).thenReturn(Mono.just(true));
+
+        // When
+        responseCacheService.put("user-1", FIELD, cached).block();
+
+        // Then
+        verify(hashOperations).put(KEY, FIELD, cached);
+        verify(redisTemplate).expire(KEY, Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("Não deve propagar erro do Redis na escrita")
+    void shouldSwallowRedisErrorsOnPut() {
+        // Given
+        CachedResponse cached = new CachedResponse("\"etag\"", "application/json", "[]", null);
+        when(hashOperations.put(KEY, FIELD, cached)).thenReturn(Mono.error(new IllegalStateException("redis down")));
+        when(redisTemplate.expire(anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+
+        // When / Then
+        assertDoesNotThrow(() -> responseCacheService.put("user-1", FIELD, cached).block());
+    }
+
+    @Test
+    @DisplayName("Deve remover todas as respostas do profissional com um único DEL")
+    void shouldInvalidateWholeOwnerHash() {
+        // Given
+        when(redisTemplate.delete(KEY)).thenReturn(Mono.just(1L));
+
+        // When
+        Boolean invalidated = responseCacheService.invalidate("user-1").block();
+
+        // Then
+        assertTrue(invalidated);
+        verify(redisTemplate).delete(KEY);
+    }
+}
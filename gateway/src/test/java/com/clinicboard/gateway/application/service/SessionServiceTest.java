@@ -0,0 +1,66 @@
+package com.clinicboard.gateway.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SessionService - Testes Unitários")
+class SessionServiceTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private JwtService jwtService;
+    private RedisService redisService;
+    private TokenRevocationService tokenRevocationService;
+    private SessionService sessionService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = Mockito.mock(JwtService.class);
+        redisService = Mockito.mock(RedisService.class);
+        tokenRevocationService = Mockito.mock(TokenRevocationService.class);
+        sessionService = new SessionService(jwtService, redisService, tokenRevocationService, 3600);
+    }
+
+    @Test
+    @DisplayName("Deve revogar o token até a expiração e remover o UserInfo do cache no logout")
+    void shouldRevokeTokenAndInvalidateCacheOnLogout() {
+        // Given
+        Instant expiresAt = Instant.now().plusSeconds(900);
+        when(jwtService.verify(TOKEN))
+                .thenReturn(JwtService.ValidationResult.valid(Mockito.mock(JwtService.JwtClaims.class)));
+        when(jwtService.expiresAt(TOKEN)).thenReturn(expiresAt);
+        when(tokenRevocationService.revoke(anyString(), any(Instant.class))).thenReturn(Mono.just(true));
+        when(redisService.invalidateUserCache(TOKEN)).thenReturn(Mono.just(true));
+
+        // When
+        Boolean revoked = sessionService.logout(TOKEN).block();
+
+        // Then
+        assertTrue(revoked);
+        verify(tokenRevocationService).revoke(TokenDigest.sha256Hex(TOKEN), expiresAt);
+        verify(redisService).invalidateUserCache(TOKEN);
+    }
+
+    @Test
+    @DisplayName("Não deve revogar nada quando o token for inválido")
+    void shouldNotRevokeInvalidToken() {
+        // Given
+        when(jwtService.verify(TOKEN)).thenReturn(JwtService.ValidationResult.invalid("assinatura inválida"));
+
+        // When
+        Boolean revoked = sessionService.logout(TOKEN).block();
+
+        // Then
+        assertFalse(revoked);
+        verifyNoInteractions(tokenRevocationService, redisService);
+    }
+}
@@ -0,0 +1,84 @@
+package com.clinicboard.gateway.application.service;
+
+import com.clinicboard.gateway.model.UserInfo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UserInfoCacheWriter - Testes Unitários")
+class UserInfoCacheWriterTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    // Redis simulado em memória
+    private final Map<String, UserInfo> redis = new ConcurrentHashMap<>();
+
+    private UserInfoCacheWriter cacheWriter;
+    private RedisService redisService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReactiveRedisTemplate<String, UserInfo> redisTemplate = Mockito.mock(ReactiveRedisTemplate.class);
+        ReactiveValueOperations<String, UserInfo> valueOperations = Mockito.mock(ReactiveValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.set(anyString(), any(UserInfo.class), any(Duration.class))).thenAnswer(inv -> {
+            redis.put(inv.getArgument(0), inv.getArgument(1));
+            return Mono.just(true);
+        });
+        when(redisTemplate.delete(anyString())).thenAnswer(inv ->
+                Mono.just(redis.remove(inv.<String>getArgument(0)) != null ? 1L : 0L));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cacheWriter = new UserInfoCacheWriter(redisTemplate, 3600, Duration.ofMillis(50), 500, 10000,
+                meterRegistry);
+        redisService = new RedisService(redisTemplate, 3600, 100, 30, meterRegistry, false,
+                Mockito.mock(JwtService.class), true, cacheWriter);
+    }
+
+    @Test
+    @DisplayName("Deve gravar no Redis o store pendente no flush")
+    void deveGravarStorePendenteNoFlush() {
+        // Given
+        redisService.cacheUser(TOKEN, userInfo()).block();
+
+        // When
+        cacheWriter.flush().block();
+
+        // Then
+        assertTrue(redis.containsKey("user_info:" + TokenDigest.sha256Hex(TOKEN)));
+    }
+
+    @Test
+    @DisplayName("Não deve regravar no flush a chave invalidada com store pendente")
+    void naoDeveRegravarChaveInvalidadaNoFlush() {
+        // Given
+        redisService.cacheUser(TOKEN, userInfo()).block();
+
+        // When
+        redisService.invalidateUserCache(TOKEN).block();
+        cacheWriter.flush().block();
+
+        // Then
+        assertFalse(redis.containsKey("user_info:" + TokenDigest.sha256Hex(TOKEN)));
+        assertNull(redisService.getLocalUser(TokenDigest.sha256Hex(TOKEN)));
+    }
+
+    private static UserInfo userInfo() {
+        return new UserInfo("user-123", "ana@clinicboard.com", "PROFESSIONAL", "Ana", "11999999999", null);
+    }
+}
@@ -0,0 +1,188 @@
+package com.clinicboard.gateway.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+
+import com.clinicboard.gateway.config.RateLimitProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UserRateLimiter - Testes Unitários")
+class UserRateLimiterTest {
+
+    private static final String ROUTE = "business-service-protected";
+    private static final String USER_ID = "user-1";
+
+    private ReactiveStringRedisTemplate redisTemplate;
+    private RateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private UserRateLimiter userRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = Mockito.mock(ReactiveStringRedisTemplate.class);
+        properties = new RateLimitProperties();
+        properties.setLeaseSize(5);
+        properties.setLeaseTtl(Duration.ofMinutes(1));
+        meterRegistry = new SimpleMeterRegistry();
+        userRateLimiter = new UserRateLimiter(redisTemplate, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve arrendar um lote do Redis e consumir o restante localmente")
+    void shouldConsumeLeasedTokensLocally() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.just(5L));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertTrue(userRateLimiter.tryAcquire(ROUTE, USER_ID).block());
+        }
+
+        // Then
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class),
+                eq(List.of("rate_limit:" + ROUTE + ":" + USER_ID)), eq(List.of("20", "40", "5")));
+    }
+
+    @Test
+    @DisplayName("Não deve pedir ao Redis mais tokens que a capacidade do bucket")
+    void shouldNotRequestMoreThanBurstCapacity() {
+        // Given
+        properties.getDefaultLimit().setBurstCapacity(2);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.just(2L));
+
+        // When
+        userRateLimiter.tryAcquire(ROUTE, USER_ID).block();
+
+        // Then
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq(List.of("20", "2", "2")));
+    }
+
+    @Test
+    @DisplayName("Misses simultâneos devem somar os lotes arrendados em vez de descartar tokens")
+    void shouldAbsorbLeasesFromConcurrentMisses() {
+        // Given: duas requisições passam pelo miss antes de qualquer lote existir
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenReturn(Flux.just(5L), Flux.just(5L), Flux.just(0L));
+        assertTrue(userRateLimiter.tryAcquire(ROUTE, USER_ID).block());
+        assertTrue(userRateLimiter.tryAcquire(ROUTE, USER_ID).block());
+
+        // When: os 8 tokens restantes (4 + 4) são consumidos sem rede
+        for (int i = 0; i < 8; i++) {
+            assertTrue(userRateLimiter.tryAcquire(ROUTE, USER_ID).block());
+        }
+
+        // Then
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), anyList());
+        assertFalse(userRateLimiter.tryAcquire(ROUTE, USER_ID).block());
+    }
+
+    @Test
+    @DisplayName("Deve recusar e contar a rejeição quando o Redis não conceder tokens")
+    void shouldRejectWhenBucketIsEmpty() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.just(0L));
+
+        // When
+        Boolean allowed = userRateLimiter.tryAcquire(ROUTE, USER_ID).block();
+
+        // Then
+        assertFalse(allowed);
+        assertEquals(1.0, meterRegistry.counter("gateway.rate_limit.rejected", "route", ROUTE).count());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a requisição quando o Redis falhar (fail-open)")
+    void shouldFailOpenOnRedisError() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenReturn(Flux.error(new RedisConnectionFailureException("redis down")));
+
+        // When / Then
+        assertTrue(userRateLimiter.tryAcquire(ROUTE, USER_ID).block());
+        assertEquals(0.0, meterRegistry.counter("gateway.rate_limit.rejected", "route", ROUTE).count());
+    }
+
+    @Test
+    @DisplayName("absorb deve transferir os tokens do outro lote e zerá-lo")
+    void absorbShouldMoveTokensFromOtherLease() {
+        // Given
+        UserRateLimiter.LocalLease lease = new UserRateLimiter.LocalLease(2);
+        UserRateLimiter.LocalLease other = new UserRateLimiter.LocalLease(3);
+
+        // When
+        UserRateLimiter.LocalLease merged = lease.absorb(other);
+
+        // Then
+        assertSame(lease, merged);
+        assertEquals(5, drain(lease));
+        assertFalse(other.tryTake());
+    }
+
+    @Test
+    @DisplayName("tryTake concorrente não deve conceder mais tokens que os arrendados")
+    void tryTakeShouldNeverOvergrantUnderContention() throws Exception {
+        // Given
+        int threads = 8;
+        UserRateLimiter.LocalLease lease = new UserRateLimiter.LocalLease(1_000);
+        AtomicInteger taken = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            // When: consumo concorrente enquanto outros misses somam lotes ao mesmo arrendamento
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                boolean absorbs = t % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 500; i++) {
+                        if (absorbs && i % 50 == 0) {
+                            lease.absorb(new UserRateLimiter.LocalLease(10));
+                        }
+                        if (lease.tryTake()) {
+                            taken.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then: 1000 iniciais + 4 threads * 10 lotes * 10 tokens
+        assertEquals(1_400, taken.get() + drain(lease));
+    }
+
+    private static int drain(UserRateLimiter.LocalLease lease) {
+        int count = 0;
+        while (lease.tryTake()) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,94 @@
+package com.clinicboard.gateway.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import com.clinicboard.gateway.application.service.UserRateLimiter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RateLimitGatewayFilter - Testes Unitários")
+class RateLimitGatewayFilterTest {
+
+    private static final String ROUTE = "business-service-protected";
+
+    private UserRateLimiter userRateLimiter;
+    private RateLimitProperties properties;
+    private GatewayFilterChain chain;
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        userRateLimiter = Mockito.mock(UserRateLimiter.class);
+        chain = Mockito.mock(GatewayFilterChain.class);
+        properties = new RateLimitProperties();
+        filter = new RateLimitGatewayFilter(userRateLimiter, properties).forRoute(ROUTE);
+    }
+
+    @Test
+    @DisplayName("Deve responder 429 com Retry-After sem chamar a rota quando o limite for atingido")
+    void shouldRejectWithTooManyRequests() {
+        // Given
+        MockServerWebExchange exchange = exchange("user-1");
+        when(userRateLimiter.tryAcquire(ROUTE, "user-1")).thenReturn(Mono.just(false));
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange.getResponse().getStatusCode());
+        assertEquals("1", exchange.getResponse().getHeaders().getFirst("Retry-After"));
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    @DisplayName("Deve seguir para a rota quando houver token disponível")
+    void shouldContinueWhenAllowed() {
+        // Given
+        MockServerWebExchange exchange = exchange("user-1");
+        when(userRateLimiter.tryAcquire(ROUTE, "user-1")).thenReturn(Mono.just(true));
+        when(chain.filter(exchange)).thenReturn(Mono.empty());
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        verify(chain).filter(exchange);
+        assertNull(exchange.getResponse().getHeaders().getFirst("Retry-After"));
+    }
+
+    @Test
+    @DisplayName("Não deve limitar requisições sem X-User-Id ou com o rate limit desligado")
+    void shouldSkipWithoutUserOrWhenDisabled() {
+        // Given
+        MockServerWebExchange anonymous = exchange(null);
+        when(chain.filter(any())).thenReturn(Mono.empty());
+
+        // When
+        filter.filter(anonymous, chain).block();
+        properties.setEnabled(false);
+        filter.filter(exchange("user-1"), chain).block();
+
+        // Then
+        verify(chain, times(2)).filter(any());
+        verifyNoInteractions(userRateLimiter);
+    }
+
+    private static MockServerWebExchange exchange(String userId) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/appointments/users/user-1");
+        if (userId != null) {
+            request.header("X-User-Id", userId);
+        }
+        return MockServerWebExchange.from(request);
+    }
+}
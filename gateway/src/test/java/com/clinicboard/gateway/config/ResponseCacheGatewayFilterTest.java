@@ -0,0 +1,215 @@
+package com.clinicboard.gateway.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import com.clinicboard.gateway.application.service.ResponseCacheService;
+import com.clinicboard.gateway.application.service.TokenDigest;
+import com.clinicboard.gateway.model.CachedResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ResponseCacheGatewayFilter - Testes Unitários")
+class ResponseCacheGatewayFilterTest {
+
+    private static final String USER_ID = "user-1";
+    private static final String PATH = "/appointments/users/" + USER_ID;
+    private static final String FIELD = USER_ID + "|" + PATH + "?date=2025-10-20";
+    private static final String BODY = "[{\"id\":\"a-1\",\"hour\":\"09:00\"}]";
+
+    private ResponseCacheService responseCacheService;
+    private GatewayFilterChain chain;
+    private ResponseCacheGatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        responseCacheService = Mockito.mock(ResponseCacheService.class);
+        chain = Mockito.mock(GatewayFilterChain.class);
+        filter = new ResponseCacheGatewayFilter(responseCacheService, true, 1024);
+        when(responseCacheService.put(anyString(), anyString(), any(CachedResponse.class))).thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("Deve juntar o corpo em partes, gerar o ETag pelo SHA-256 e guardar a resposta no MISS")
+    void shouldJoinBodyAndCacheOnMiss() {
+        // Given
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get(PATH + "?date=2025-10-20"));
+        when(responseCacheService.get(USER_ID, FIELD)).thenReturn(Mono.empty());
+        respondWith(null, BODY.substring(0, 10), BODY.substring(10));
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        String expectedETag = "\"" + TokenDigest.sha256Hex(BODY) + "\"";
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals(BODY, exchange.getResponse().getBodyAsString().block());
+        assertEquals(expectedETag, exchange.getResponse().getHeaders().getETag());
+        assertEquals("MISS", exchange.getResponse().getHeaders().getFirst("X-Cache"));
+
+        ArgumentCaptor<CachedResponse> cached = ArgumentCaptor.forClass(CachedResponse.class);
+        verify(responseCacheService).put(eq(USER_ID), eq(FIELD), cached.capture());
+        assertEquals(expectedETag, cached.getValue().getEtag());
+        assertEquals(BODY, cached.getValue().getBody());
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, cached.getValue().getContentType());
+    }
+
+    @Test
+    @DisplayName("Deve manter o ETag do business-service e responder 304 quando o If-None-Match coincidir no MISS")
+    void shouldKeepUpstreamETagAndReturnNotModifiedOnMiss() {
+        // Given
+        String upstreamETag = "\"a-0123456789abcdef\"";
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get(PATH + "?date=2025-10-20")
+                .ifNoneMatch(upstreamETag));
+        when(responseCacheService.get(USER_ID, FIELD)).thenReturn(Mono.empty());
+        respondWith(upstreamETag, BODY);
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertEquals(HttpStatus.NOT_MODIFIED, exchange.getResponse().getStatusCode());
+        assertEquals(upstreamETag, exchange.getResponse().getHeaders().getETag());
+        assertFalse(exchange.getResponse().getHeaders().containsKey("Content-Length"));
+        assertEquals("", exchange.getResponse().getBodyAsString().defaultIfEmpty("").block());
+        verify(responseCacheService).put(eq(USER_ID), eq(FIELD),
+                argThat(cached -> upstreamETag.equals(cached.getEtag())));
+    }
+
+    @Test
+    @DisplayName("Não deve guardar no cache respostas maiores que max-body-size, mas deve repassá-las")
+    void shouldNotCacheBodiesAboveMaxSize() {
+        // Given
+        filter = new ResponseCacheGatewayFilter(responseCacheService, true, 16);
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get(PATH + "?date=2025-10-20"));
+        when(responseCacheService.get(USER_ID, FIELD)).thenReturn(Mono.empty());
+        respondWith(null, BODY);
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertEquals(BODY, exchange.getResponse().getBodyAsString().block());
+        assertEquals("MISS", exchange.getResponse().getHeaders().getFirst("X-Cache"));
+        assertNotNull(exchange.getResponse().getHeaders().getETag());
+        verify(responseCacheService, never()).put(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar no cache respostas diferentes de 200")
+    void shouldNotCacheNonOkResponses() {
+        // Given
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get(PATH + "?date=2025-10-20"));
+        when(responseCacheService.get(USER_ID, FIELD)).thenReturn(Mono.empty());
+        when(chain.filter(any(ServerWebExchange.class))).thenAnswer(invocation -> {
+            ServerHttpResponse response = invocation.<ServerWebExchange>getArgument(0).getResponse();
+            response.setStatusCode(HttpStatus.NOT_FOUND);
+            return response.writeWith(Mono.just(DefaultDataBufferFactory.sharedInstance
+                    .wrap("{}".getBytes(StandardCharsets.UTF_8))));
+        });
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, exchange.getResponse().getStatusCode());
+        assertNull(exchange.getResponse().getHeaders().getETag());
+        verify(responseCacheService, never()).put(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Deve responder do cache no HIT sem chamar o business-service")
+    void shouldServeCachedResponseOnHit() {
+        // Given
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get(PATH + "?date=2025-10-20"));
+        when(responseCacheService.get(USER_ID, FIELD)).thenReturn(Mono.just(
+                new CachedResponse("\"etag-1\"", MediaType.APPLICATION_JSON_VALUE, BODY, null)));
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals(BODY, exchange.getResponse().getBodyAsString().block());
+        assertEquals("\"etag-1\"", exchange.getResponse().getHeaders().getETag());
+        assertEquals("HIT", exchange.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals(MediaType.APPLICATION_JSON, exchange.getResponse().getHeaders().getContentType());
+        assertEquals(BODY.getBytes(StandardCharsets.UTF_8).length,
+                exchange.getResponse().getHeaders().getContentLength());
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 no HIT quando o If-None-Match coincidir")
+    void shouldReturnNotModifiedOnHitWithMatchingETag() {
+        // Given
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get(PATH + "?date=2025-10-20")
+                .ifNoneMatch("\"etag-1\""));
+        when(responseCacheService.get(USER_ID, FIELD)).thenReturn(Mono.just(
+                new CachedResponse("\"etag-1\"", MediaType.APPLICATION_JSON_VALUE, BODY, null)));
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertEquals(HttpStatus.NOT_MODIFIED, exchange.getResponse().getStatusCode());
+        assertEquals("", exchange.getResponse().getBodyAsString().defaultIfEmpty("").block());
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    @DisplayName("Deve repassar direto requisições que não são GET")
+    void shouldBypassCacheForNonGetRequests() {
+        // Given
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.post(PATH));
+        when(chain.filter(exchange)).thenReturn(Mono.empty());
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        verify(chain).filter(exchange);
+        verifyNoInteractions(responseCacheService);
+    }
+
+    private MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request.header("X-User-Id", USER_ID));
+        ServerWebExchangeUtils.putUriTemplateVariables(exchange, Map.of("userId", USER_ID));
+        return exchange;
+    }
+
+    /**
+     * Simula o business-service respondendo 200 com o corpo em várias partes.
+     */
+    private void respondWith(String etag, String... chunks) {
+        when(chain.filter(any(ServerWebExchange.class))).thenAnswer(invocation -> {
+            ServerHttpResponse response = invocation.<ServerWebExchange>getArgument(0).getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            if (etag != null) {
+                response.getHeaders().setETag(etag);
+            }
+            return response.writeWith(Flux.fromArray(chunks)
+                    .map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        });
+    }
+}
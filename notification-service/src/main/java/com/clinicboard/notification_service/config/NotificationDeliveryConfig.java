@@ -0,0 +1,26 @@
+package com.clinicboard.notification_service.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Executor das entregas de notificação.
+ *
+ * Cada entrega roda em uma virtual thread: o envio bloqueia em I/O (email,
+ * SMS) sem ocupar threads de plataforma, e a vazão acompanha o tempo de
+ * espera dos provedores em vez do número de threads do listener. O limite de
+ * concorrência fica por provedor (ProviderConcurrencyLimiter).
+ *
+ * No shutdown, close() aguarda as entregas em andamento.
+ */
+@Configuration
+public class NotificationDeliveryConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService notificationDeliveryExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("notification-delivery-", 0).factory());
+    }
+}
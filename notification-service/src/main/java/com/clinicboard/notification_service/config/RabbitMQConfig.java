@@ -1,10 +1,13 @@
 package com.clinicboard.notification_service.config;
 
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.DefaultClassMapper;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -19,6 +22,7 @@ import java.util.Map;
  * - Filas específicas para cada tipo de evento
  * - Bindings entre exchanges e filas
  * - Conversor JSON para deserialização dos eventos
+ * - Containers em lote com ack manual: agendamentos e lembretes
  * 
  * Alinhada com as configurações do business-service para garantir
  * compatibilidade na comunicação entre os serviços.
@@ -48,6 +52,28 @@ public class RabbitMQConfig {
     @Value("${app.messaging.dlq.routing-key.events-failed}")
     private String dlqRoutingKey;
 
+    // Consumo dos eventos individuais
+    @Value("${app.messaging.listener.events.batch-size:20}")
+    private int eventsBatchSize;
+    @Value("${app.messaging.listener.events.prefetch:50}")
+    private int eventsPrefetch;
+    @Value("${app.messaging.listener.events.concurrency:1}")
+    private int eventsConcurrency;
+    @Value("${app.messaging.listener.events.receive-timeout:200}")
+    private long eventsReceiveTimeout;
+
+    // Consumo em lote dos lembretes
+    @Value("${app.messaging.listener.reminder.batch-size:100}")
+    private int reminderBatchSize;
+    @Value("${app.messaging.listener.reminder.prefetch:250}")
+    private int reminderPrefetch;
+    @Value("${app.messaging.listener.reminder.concurrency:2}")
+    private int reminderConcurrency;
+    @Value("${app.messaging.listener.reminder.max-concurrency:8}")
+    private int reminderMaxConcurrency;
+    @Value("${app.messaging.listener.reminder.receive-timeout:1000}")
+    private long reminderReceiveTimeout;
+
     // ========== EXCHANGES ==========
 
     @Bean
@@ -109,6 +135,64 @@ public class RabbitMQConfig {
                 .with(dlqRoutingKey);
     }
 
+    // ========== CONTAINERS ==========
+
+    /**
+     * Container dos eventos de agendamento: lotes pequenos (batch-size, ou o
+     * que chegou em receive-timeout) entregues em paralelo pelo listener, com
+     * ack manual por mensagem ao fim de cada entrega.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory notificationContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = manualAckContainerFactory(configurer, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(eventsBatchSize);
+        factory.setReceiveTimeout(eventsReceiveTimeout);
+        factory.setPrefetchCount(Math.max(eventsPrefetch, eventsBatchSize));
+        factory.setConcurrentConsumers(eventsConcurrency);
+        return factory;
+    }
+
+    /**
+     * Container dos lembretes: cada consumidor entrega ao listener listas de
+     * até batch-size mensagens (ou o que chegou em receive-timeout), em vez de
+     * uma mensagem por invocação.
+     *
+     * - prefetch: mensagens não confirmadas por consumidor; mantido acima do
+     * lote para o próximo já estar no cliente quando o atual terminar
+     * - concurrency / max-concurrency: consumidores por instância, ampliados
+     * sob demanda nos picos (ex.: lembretes das 9h)
+     * - Ack manual, mensagem a mensagem, ao fim da entrega de cada lembrete;
+     * um lembrete com falha é rejeitado sem requeue e segue para a DLQ
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory reminderBatchContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = manualAckContainerFactory(configurer, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(reminderBatchSize);
+        factory.setReceiveTimeout(reminderReceiveTimeout);
+        factory.setPrefetchCount(Math.max(reminderPrefetch, reminderBatchSize));
+        factory.setConcurrentConsumers(reminderConcurrency);
+        factory.setMaxConcurrentConsumers(Math.max(reminderMaxConcurrency, reminderConcurrency));
+        return factory;
+    }
+
+    // Mensagens que nem chegam ao listener (ex.: falha de conversão) são
+    // rejeitadas pelo próprio container, mesmo com ack manual
+    private SimpleRabbitListenerContainerFactory manualAckContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setMessageConverter(jackson2JsonMessageConverter());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+
     // ========== CONVERSOR JSON ==========
 
     @Bean
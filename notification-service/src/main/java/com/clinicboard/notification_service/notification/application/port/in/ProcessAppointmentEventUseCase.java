@@ -1,7 +1,11 @@
 package com.clinicboard.notification_service.notification.application.port.in;
 
+import com.clinicboard.notification_service.notification.application.port.out.NotificationResult;
 import com.clinicboard.notification_service.notification.domain.event.AppointmentReminderEvent;
 import com.clinicboard.notification_service.notification.domain.event.AppointmentScheduledEvent;
+
+import java.util.List;
+
 /**
  * Porta de entrada para processamento de eventos de agendamento. * 
  * Segue o padrão Hexagonal Architecture onde as portas definem
@@ -14,4 +18,10 @@ public interface ProcessAppointmentEventUseCase {
      */
     void processAppointmentScheduledEvent(AppointmentScheduledEvent event);
     void processAppointmentReminderEvent(AppointmentReminderEvent event);
+
+    /**
+     * Processa um lote de lembretes recebido do consumidor em lote, com um
+     * resultado por lembrete (na mesma ordem)
+     */
+    List<NotificationResult> processAppointmentReminderEvents(List<AppointmentReminderEvent> events);
 }
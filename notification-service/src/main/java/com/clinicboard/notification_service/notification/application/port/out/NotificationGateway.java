@@ -1,5 +1,10 @@
 package com.clinicboard.notification_service.notification.application.port.out;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import com.clinicboard.notification_service.notification.domain.event.AppointmentReminderEvent;
+
 /**
  * Porta de saída para envio de notificações.
  * 
@@ -21,4 +26,26 @@ public interface NotificationGateway {
      * Envia notificação de lembrete de agendamento
      */
     void sendAppointmentReminderNotification(String appointmentId, String userId, String patientId, String message);
+
+    /**
+     * Envia um lote de lembretes e devolve um resultado por lembrete, na mesma
+     * ordem. Canais com API de envio em lote (ex.: email em massa, SMS em lote)
+     * devem sobrescrever este método; por padrão envia um a um.
+     */
+    default List<NotificationResult> sendAppointmentReminderNotifications(List<AppointmentReminderEvent> reminders) {
+        List<NotificationResult> results = new ArrayList<>(reminders.size());
+        for (AppointmentReminderEvent reminder : reminders) {
+            try {
+                sendAppointmentReminderNotification(
+                        reminder.getAppointmentId(),
+                        reminder.getProfessionalId(),
+                        reminder.getPatientId(),
+                        reminder.getMessage());
+                results.add(NotificationResult.delivered());
+            } catch (Exception e) {
+                results.add(NotificationResult.failed(e));
+            }
+        }
+        return results;
+    }
 }
@@ -0,0 +1,23 @@
+package com.clinicboard.notification_service.notification.application.port.out;
+
+/**
+ * Resultado do envio de uma notificação dentro de um lote.
+ *
+ * @param failure causa da falha, ou null se a notificação foi entregue
+ */
+public record NotificationResult(Throwable failure) {
+
+    private static final NotificationResult DELIVERED = new NotificationResult(null);
+
+    public static NotificationResult delivered() {
+        return DELIVERED;
+    }
+
+    public static NotificationResult failed(Throwable failure) {
+        return new NotificationResult(failure);
+    }
+
+    public boolean isDelivered() {
+        return failure == null;
+    }
+}
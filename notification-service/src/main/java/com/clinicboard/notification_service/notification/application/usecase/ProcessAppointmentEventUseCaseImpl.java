@@ -2,12 +2,15 @@ package com.clinicboard.notification_service.notification.application.usecase;
 
 import com.clinicboard.notification_service.notification.application.port.in.ProcessAppointmentEventUseCase;
 import com.clinicboard.notification_service.notification.application.port.out.NotificationGateway;
+import com.clinicboard.notification_service.notification.application.port.out.NotificationResult;
 import com.clinicboard.notification_service.notification.domain.event.AppointmentReminderEvent;
 import com.clinicboard.notification_service.notification.domain.event.AppointmentScheduledEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * Implementação do caso de uso para processamento de eventos de agendamento.
  * Coordena as operações mas delega responsabilidades específicas para portas de
@@ -59,4 +62,16 @@ public class ProcessAppointmentEventUseCaseImpl implements ProcessAppointmentEve
         }
     }
 
+    @Override
+    public List<NotificationResult> processAppointmentReminderEvents(List<AppointmentReminderEvent> events) {
+        log.info("Processing batch of {} appointment reminder event(s)", events.size());
+
+        List<NotificationResult> results = notificationGateway.sendAppointmentReminderNotifications(events);
+
+        long delivered = results.stream().filter(NotificationResult::isDelivered).count();
+        log.info("Processed batch of appointment reminder events: {} delivered, {} failed",
+                delivered, results.size() - delivered);
+        return results;
+    }
+
 }
@@ -0,0 +1,65 @@
+package com.clinicboard.notification_service.notification.infrastructure.adapter.in.messaging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Registro dos messageIds já entregues, para descartar as reentregas do
+ * outbox do business-service (entrega ao menos uma vez: timeout de confirm
+ * ou queda do relay reenviam a mesma linha, com o mesmo messageId).
+ *
+ * - Um id é reservado antes da entrega e liberado se ela falhar, então
+ * duplicatas concorrentes (no mesmo lote ou em listeners paralelos) também
+ * são descartadas
+ * - Limitado a app.messaging.dedup.max-entries ids, cada um por até
+ * app.messaging.dedup.ttl; cobre as reentregas desta instância, não as que
+ * caem em outra réplica nem as anteriores a um restart
+ */
+@Component
+public class ProcessedMessageRegistry {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<String, Long> claimedAt;
+
+    public ProcessedMessageRegistry(
+            @Value("${app.messaging.dedup.max-entries:100000}") int maxEntries,
+            @Value("${app.messaging.dedup.ttl:1h}") Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        // Ordem de inserção: o mais antigo sai primeiro ao passar do limite
+        this.claimedAt = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > ProcessedMessageRegistry.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Reserva o id para entrega.
+     *
+     * @return false se o id já foi entregue (ou está em entrega) dentro do TTL
+     */
+    public synchronized boolean claim(String messageId) {
+        long now = System.nanoTime();
+        Long previous = claimedAt.get(messageId);
+        if (previous != null && now - previous < ttlNanos) {
+            return false;
+        }
+        claimedAt.remove(messageId);
+        claimedAt.put(messageId, now);
+        return true;
+    }
+
+    /**
+     * Libera o id de uma entrega que falhou, permitindo a reentrega.
+     */
+    public synchronized void release(String messageId) {
+        claimedAt.remove(messageId);
+    }
+}
@@ -1,17 +1,42 @@
 package com.clinicboard.notification_service.notification.infrastructure.adapter.in.messaging;
 
 import com.clinicboard.notification_service.notification.application.port.in.ProcessAppointmentEventUseCase;
+import com.clinicboard.notification_service.notification.application.port.out.NotificationResult;
 import com.clinicboard.notification_service.notification.domain.event.AppointmentReminderEvent;
 import com.clinicboard.notification_service.notification.domain.event.AppointmentScheduledEvent;
+import com.clinicboard.notification_service.notification.domain.event.DomainEvent;
+import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
 /**
  * Adaptador de entrada para consumo de eventos via RabbitMQ.
  * Implementa Circuit Breaker pattern através de Dead Letter Queue (DLQ)
  * para tratamento de falhas e reprocessamento de mensagens.
+ *
+ * Os listeners de eventos recebem lotes. Agendamentos criados são entregues
+ * um a um, cada um em uma virtual thread, aguardando todos antes de retornar:
+ * o envio bloqueado em I/O não ocupa a thread do listener e as entregas do
+ * lote correm em paralelo. Lembretes vão em um único envio em lote ao
+ * gateway, que devolve um resultado por lembrete. O ack manual é feito na
+ * própria thread do listener, com o canal ainda aberto: basicAck para cada
+ * entrega concluída e basicNack sem requeue (DLQ) apenas para as que
+ * falharam.
+ *
+ * Agendamentos criados vêm do outbox do business-service, com o id do outbox
+ * como messageId: reentregas de um id já entregue são confirmadas sem enviar
+ * a notificação de novo ({@link ProcessedMessageRegistry}).
  */
 @Slf4j
 @Component
@@ -19,39 +44,39 @@ import org.springframework.stereotype.Component;
 public class RabbitMQEventConsumer {
 
     private final ProcessAppointmentEventUseCase processAppointmentEventUseCase;
+    private final ExecutorService notificationDeliveryExecutor;
+    private final ProcessedMessageRegistry processedMessages;
 
     /**
-     * Consome eventos de agendamento criado
+     * Consome eventos de agendamento criado (até
+     * app.messaging.listener.events.batch-size por invocação)
      */
-    @RabbitListener(queues = "${app.messaging.queue.appointment-scheduled}")
-    public void handleAppointmentScheduled(AppointmentScheduledEvent event) {
-        log.info("Received AppointmentScheduledEvent for appointment: {}", event.getAggregateId());
-
-        try {
-            processAppointmentEventUseCase.processAppointmentScheduledEvent(event);
-            log.debug("Successfully processed AppointmentScheduledEvent for appointment: {}", event.getAggregateId());
-        } catch (Exception e) {
-            log.error("Failed to process AppointmentScheduledEvent for appointment: {}. Message will be sent to DLQ",
-                    event.getAggregateId(), e);
-            throw e;
-        }
+    @RabbitListener(queues = "${app.messaging.queue.appointment-scheduled}",
+            containerFactory = "notificationContainerFactory")
+    public void handleAppointmentScheduled(List<Message<AppointmentScheduledEvent>> messages, Channel channel) {
+        log.info("Received {} AppointmentScheduledEvent(s)", messages.size());
+        deliverAll(messages, channel, processAppointmentEventUseCase::processAppointmentScheduledEvent);
     }
 
     /**
-     * Consome eventos de lembrete de agendamento
+     * Consome eventos de lembrete de agendamento em lote (até
+     * app.messaging.listener.reminder.batch-size por invocação). O lote vai
+     * inteiro ao gateway, mas cada lembrete é confirmado pelo seu próprio
+     * resultado: uma falha rejeita apenas a própria mensagem, sem reenviar para
+     * a DLQ os lembretes já entregues.
      */
-    @RabbitListener(queues = "${app.messaging.queue.appointment-reminder}")
-    public void handleAppointmentReminder(AppointmentReminderEvent event) {
-        log.info("Received AppointmentReminderEvent for appointment: {}", event.getAggregateId());
-
+    @RabbitListener(queues = "${app.messaging.queue.appointment-reminder}",
+            containerFactory = "reminderBatchContainerFactory")
+    public void handleAppointmentReminders(List<Message<AppointmentReminderEvent>> messages, Channel channel) {
+        log.info("Received {} AppointmentReminderEvent(s)", messages.size());
+        List<AppointmentReminderEvent> events = messages.stream().map(Message::getPayload).toList();
+        List<NotificationResult> results;
         try {
-            processAppointmentEventUseCase.processAppointmentReminderEvent(event);
-            log.debug("Successfully processed AppointmentReminderEvent for appointment: {}", event.getAggregateId());
+            results = processAppointmentEventUseCase.processAppointmentReminderEvents(events);
         } catch (Exception e) {
-            log.error("Failed to process AppointmentReminderEvent for appointment: {}. Message will be sent to DLQ",
-                    event.getAggregateId(), e);
-            throw e;
+            results = events.stream().map(event -> NotificationResult.failed(e)).toList();
         }
+        settle(messages, channel, results);
     }
 
     /**
@@ -70,4 +95,75 @@ public class RabbitMQEventConsumer {
         // 3. Armazenar em banco para análise posterior
         // 4. Aplicar estratégias de retry com backoff
     }
+
+    private <T extends DomainEvent> void deliverAll(List<Message<T>> messages, Channel channel,
+            Consumer<T> delivery) {
+        List<String> messageIds = messages.stream()
+                .map(message -> message.getHeaders().get(AmqpHeaders.MESSAGE_ID, String.class))
+                .toList();
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            T event = messages.get(i).getPayload();
+            String messageId = messageIds.get(i);
+            if (messageId != null && !processedMessages.claim(messageId)) {
+                log.info("Discarding duplicate {} (messageId {}) for appointment: {}",
+                        event.getClass().getSimpleName(), messageId, event.getAggregateId());
+                deliveries.add(CompletableFuture.completedFuture(null));
+            } else {
+                deliveries.add(CompletableFuture.runAsync(() -> delivery.accept(event), notificationDeliveryExecutor));
+            }
+        }
+
+        List<NotificationResult> results = new ArrayList<>(deliveries.size());
+        for (int i = 0; i < deliveries.size(); i++) {
+            try {
+                deliveries.get(i).join();
+                results.add(NotificationResult.delivered());
+            } catch (CompletionException e) {
+                if (messageIds.get(i) != null) {
+                    processedMessages.release(messageIds.get(i));
+                }
+                results.add(NotificationResult.failed(e.getCause()));
+            }
+        }
+        settle(messages, channel, results);
+    }
+
+    /**
+     * Confirma cada mensagem pelo seu resultado (mesma ordem das mensagens).
+     */
+    private <T extends DomainEvent> void settle(List<Message<T>> messages, Channel channel,
+            List<NotificationResult> results) {
+        for (int i = 0; i < messages.size(); i++) {
+            T event = messages.get(i).getPayload();
+            long deliveryTag = messages.get(i).getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class);
+            NotificationResult result = results.get(i);
+            if (result.isDelivered()) {
+                log.debug("Successfully processed {} for appointment: {}", event.getClass().getSimpleName(),
+                        event.getAggregateId());
+                ack(channel, deliveryTag);
+            } else {
+                log.error("Failed to process {} for appointment: {}. Message will be sent to DLQ",
+                        event.getClass().getSimpleName(), event.getAggregateId(), result.failure());
+                reject(channel, deliveryTag);
+            }
+        }
+    }
+
+    // Só falha com o canal fechado (ex.: conexão perdida); o broker reentrega a mensagem
+    private void ack(Channel channel, long deliveryTag) {
+        try {
+            channel.basicAck(deliveryTag, false);
+        } catch (Exception e) {
+            log.warn("Failed to ack delivery {}. Message will be redelivered", deliveryTag, e);
+        }
+    }
+
+    private void reject(Channel channel, long deliveryTag) {
+        try {
+            channel.basicNack(deliveryTag, false, false);
+        } catch (Exception e) {
+            log.warn("Failed to reject delivery {}. Message will be redelivered", deliveryTag, e);
+        }
+    }
 }
@@ -1,9 +1,15 @@
 package com.clinicboard.notification_service.notification.infrastructure.adapter.out;
 
 import com.clinicboard.notification_service.notification.application.port.out.NotificationGateway;
+import com.clinicboard.notification_service.notification.application.port.out.NotificationResult;
+import com.clinicboard.notification_service.notification.domain.event.AppointmentReminderEvent;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Implementação mock do gateway de notificações.
  * 
@@ -12,19 +18,29 @@ import org.springframework.stereotype.Component;
  * 
  * Segue o padrão Hexagonal Architecture onde os adaptadores de saída
  * implementam as portas definidas pela camada de aplicação.
+ *
+ * Cada envio passa pelo ProviderConcurrencyLimiter com o nome do provedor,
+ * como deve ser feito pelas implementações reais.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class MockNotificationGateway implements NotificationGateway {
-    
+
+    private static final String PROVIDER = "mock";
+
+    private final ProviderConcurrencyLimiter concurrencyLimiter;
+
     @Override
     public void sendAppointmentScheduledNotification(String agregateId, String professionalId, String patientId, String message) {
-        log.info("📅 [NOTIFICATION] Agendamento Criado");
-        log.info("   Profissional: {} (ID: {})", professionalId, agregateId);
-        log.info("   Paciente: {} (ID: {})", patientId, agregateId);
-        log.info("   Mensagem: {}", message);
-        log.info("   ===============================================");
-        
+        concurrencyLimiter.run(PROVIDER, () -> {
+            log.info("📅 [NOTIFICATION] Agendamento Criado");
+            log.info("   Profissional: {} (ID: {})", professionalId, agregateId);
+            log.info("   Paciente: {} (ID: {})", patientId, agregateId);
+            log.info("   Mensagem: {}", message);
+            log.info("   ===============================================");
+        });
+
         // TODO: Implementar envio real de notificação (email, SMS, push, etc)
         // Aqui seria integrado com serviços como SendGrid, Twilio, Firebase, etc.
     }
@@ -32,14 +48,30 @@ public class MockNotificationGateway implements NotificationGateway {
     @Override
     public void sendAppointmentReminderNotification(String appointmentId, String userId, String patientId,
             String message) {
-        // TODO Auto-generated method stub
-        log.info("⏰ [NOTIFICATION] Lembrete de Agendamento");
-        log.info("   Usuário: {} (ID: {})", userId, appointmentId);
-        log.info("   Paciente: {} (ID: {})", patientId, appointmentId);
-        log.info("   Mensagem: {}", message);
-        log.info("   ===============================================");
-        
+        concurrencyLimiter.run(PROVIDER, () -> {
+            log.info("⏰ [NOTIFICATION] Lembrete de Agendamento");
+            log.info("   Usuário: {} (ID: {})", userId, appointmentId);
+            log.info("   Paciente: {} (ID: {})", patientId, appointmentId);
+            log.info("   Mensagem: {}", message);
+            log.info("   ===============================================");
+        });
+
         // TODO: Implementar envio real de notificação (email, SMS, push, etc)
         // Aqui seria integrado com serviços como SendGrid, Twilio, Firebase, etc.
     }
+
+    /**
+     * Lote inteiro em um único envio ao provedor (uma permissão do limitador).
+     */
+    @Override
+    public List<NotificationResult> sendAppointmentReminderNotifications(List<AppointmentReminderEvent> reminders) {
+        concurrencyLimiter.run(PROVIDER, () -> {
+            log.info("⏰ [NOTIFICATION] Lote de {} lembrete(s) de agendamento", reminders.size());
+            reminders.forEach(reminder -> log.info("   Profissional: {} | Paciente: {} | Agendamento: {} | {}",
+                    reminder.getProfessionalId(), reminder.getPatientId(), reminder.getAppointmentId(),
+                    reminder.getMessage()));
+            log.info("   ===============================================");
+        });
+        return Collections.nCopies(reminders.size(), NotificationResult.delivered());
+    }
 }
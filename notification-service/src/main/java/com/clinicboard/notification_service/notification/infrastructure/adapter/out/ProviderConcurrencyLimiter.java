@@ -0,0 +1,59 @@
+package com.clinicboard.notification_service.notification.infrastructure.adapter.out;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limita os envios simultâneos por provedor de notificação (ex.: "smtp",
+ * "sms"), protegendo cada um dos limites de conexão e rate limit do
+ * fornecedor.
+ *
+ * O limite vem de app.notification.providers.{provedor}.max-concurrency ou,
+ * na ausência dele, de app.notification.providers.max-concurrency. Quem
+ * espera por uma permissão é uma virtual thread, então a espera é barata.
+ */
+@Slf4j
+@Component
+public class ProviderConcurrencyLimiter {
+
+    private final Environment environment;
+    private final int defaultMaxConcurrency;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    public ProviderConcurrencyLimiter(Environment environment,
+            @Value("${app.notification.providers.max-concurrency:20}") int defaultMaxConcurrency) {
+        this.environment = environment;
+        this.defaultMaxConcurrency = defaultMaxConcurrency;
+    }
+
+    /**
+     * Executa o envio quando houver permissão livre para o provedor.
+     */
+    public void run(String provider, Runnable send) {
+        Semaphore semaphore = permits.computeIfAbsent(provider, this::createSemaphore);
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for provider " + provider, e);
+        }
+        try {
+            send.run();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private Semaphore createSemaphore(String provider) {
+        int maxConcurrency = environment.getProperty("app.notification.providers." + provider + ".max-concurrency",
+                Integer.class, defaultMaxConcurrency);
+        log.info("Notification provider {} limited to {} concurrent send(s)", provider, maxConcurrency);
+        return new Semaphore(maxConcurrency, true);
+    }
+}
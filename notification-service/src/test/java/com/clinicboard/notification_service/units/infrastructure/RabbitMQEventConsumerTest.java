@@ -0,0 +1,154 @@
+package com.clinicboard.notification_service.units.infrastructure;
+
+import com.clinicboard.notification_service.notification.application.port.in.ProcessAppointmentEventUseCase;
+import com.clinicboard.notification_service.notification.domain.event.AppointmentScheduledEvent;
+import com.clinicboard.notification_service.notification.infrastructure.adapter.in.messaging.ProcessedMessageRegistry;
+import com.clinicboard.notification_service.notification.infrastructure.adapter.in.messaging.RabbitMQEventConsumer;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RabbitMQEventConsumer - Testes Unitários")
+class RabbitMQEventConsumerTest {
+
+    private ProcessAppointmentEventUseCase useCase;
+    private ExecutorService deliveryExecutor;
+    private Channel channel;
+    private RabbitMQEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        useCase = Mockito.mock(ProcessAppointmentEventUseCase.class);
+        channel = Mockito.mock(Channel.class);
+        deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        consumer = new RabbitMQEventConsumer(useCase, deliveryExecutor,
+                new ProcessedMessageRegistry(1000, Duration.ofHours(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        deliveryExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve confirmar as entregas concluídas e rejeitar sem requeue apenas a que falhou")
+    void shouldAckDeliveredAndNackFailed() throws Exception {
+        // Given
+        doThrow(new IllegalStateException("provedor indisponível"))
+                .when(useCase).processAppointmentScheduledEvent(argThat(event -> "a-2".equals(event.getAggregateId())));
+        List<Message<AppointmentScheduledEvent>> messages = List.of(
+                message(1L, "m-1", "a-1"), message(2L, "m-2", "a-2"), message(3L, "m-3", "a-3"));
+
+        // When
+        consumer.handleAppointmentScheduled(messages, channel);
+
+        // Then
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicNack(2L, false, false);
+        verify(channel).basicAck(3L, false);
+        verify(channel, never()).basicAck(eq(2L), anyBoolean());
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), eq(true));
+    }
+
+    @Test
+    @DisplayName("Deve aguardar todas as entregas do lote antes de confirmar qualquer mensagem")
+    void shouldSettleOnlyAfterAllDeliveriesAreJoined() throws Exception {
+        // Given: a entrega de a-2 fica bloqueada até o latch ser liberado
+        CountDownLatch slowDeliveryStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlowDelivery = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            AppointmentScheduledEvent event = invocation.getArgument(0);
+            if ("a-2".equals(event.getAggregateId())) {
+                slowDeliveryStarted.countDown();
+                releaseSlowDelivery.await();
+                throw new IllegalStateException("timeout no provedor");
+            }
+            return null;
+        }).when(useCase).processAppointmentScheduledEvent(any());
+        List<Message<AppointmentScheduledEvent>> messages = List.of(
+                message(1L, "m-1", "a-1"), message(2L, "m-2", "a-2"));
+        ExecutorService listenerThread = Executors.newSingleThreadExecutor();
+
+        try {
+            // When
+            Future<?> handled = listenerThread.submit(() -> consumer.handleAppointmentScheduled(messages, channel));
+            assertTrue(slowDeliveryStarted.await(5, TimeUnit.SECONDS));
+
+            // Then: a-1 já terminou, mas nada é confirmado enquanto a-2 estiver em andamento
+            verify(useCase, timeout(1000)).processAppointmentScheduledEvent(
+                    argThat(event -> "a-1".equals(event.getAggregateId())));
+            Thread.sleep(100);
+            verifyNoInteractions(channel);
+            assertFalse(handled.isDone());
+
+            releaseSlowDelivery.countDown();
+            handled.get(5, TimeUnit.SECONDS);
+        } finally {
+            listenerThread.shutdownNow();
+        }
+
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicNack(2L, false, false);
+    }
+
+    @Test
+    @DisplayName("Deve confirmar sem reenviar a notificação uma reentrega com messageId já entregue")
+    void shouldAckDuplicateMessageIdWithoutDeliveringAgain() throws Exception {
+        // Given
+        consumer.handleAppointmentScheduled(List.of(message(1L, "m-1", "a-1")), channel);
+
+        // When
+        consumer.handleAppointmentScheduled(List.of(message(2L, "m-1", "a-1")), channel);
+
+        // Then
+        verify(useCase, times(1)).processAppointmentScheduledEvent(any());
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicAck(2L, false);
+    }
+
+    @Test
+    @DisplayName("Deve entregar de novo a reentrega de uma mensagem cuja entrega falhou")
+    void shouldRedeliverMessageIdAfterFailure() throws Exception {
+        // Given
+        doThrow(new IllegalStateException("provedor indisponível"))
+                .doNothing()
+                .when(useCase).processAppointmentScheduledEvent(any());
+        consumer.handleAppointmentScheduled(List.of(message(1L, "m-1", "a-1")), channel);
+
+        // When
+        consumer.handleAppointmentScheduled(List.of(message(2L, "m-1", "a-1")), channel);
+
+        // Then
+        verify(useCase, times(2)).processAppointmentScheduledEvent(any());
+        verify(channel).basicNack(1L, false, false);
+        verify(channel).basicAck(2L, false);
+    }
+
+    private static Message<AppointmentScheduledEvent> message(long deliveryTag, String messageId, String appointmentId) {
+        AppointmentScheduledEvent event = new AppointmentScheduledEvent(appointmentId, "patient-1", "user-1",
+                "2025-10-20", "09:00", "Consulta agendada", Instant.now());
+        return MessageBuilder.withPayload(event)
+                .setHeader(AmqpHeaders.DELIVERY_TAG, deliveryTag)
+                .setHeader(AmqpHeaders.MESSAGE_ID, messageId)
+                .build();
+    }
+}
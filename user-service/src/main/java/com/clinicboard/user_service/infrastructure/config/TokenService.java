@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.clinicboard.user_service.domain.User;
@@ -18,10 +19,18 @@ public class TokenService {
     @Value("${api.security.token.secret}")
     private String secret;
 
+    // kid da chave atual, enviado no header do token para o Gateway escolher o verificador
+    @Value("${api.security.token.key-id:}")
+    private String keyId;
+
     public String generateToken(User user) {
         try {
             Algorithm algorithm = Algorithm.HMAC256(secret);
-            String token = JWT.create()
+            JWTCreator.Builder builder = JWT.create();
+            if (keyId != null && !keyId.isBlank()) {
+                builder.withKeyId(keyId);
+            }
+            String token = builder
                     .withIssuer("clinicboard-backend")
                     .withSubject(user.getId())
                     .withClaim("email", user.getEmail())
@@ -1,5 +1,6 @@
 package com.clinicboard.user_service.units.infrastructure;
 
+import com.auth0.jwt.JWT;
 import com.clinicboard.user_service.domain.User;
 import com.clinicboard.user_service.domain.UserRole;
 import com.clinicboard.user_service.infrastructure.config.TokenService;
@@ -118,6 +119,26 @@ class TokenServiceTest {
         assertTrue(token.length() > 50); // Token JWT deve ter tamanho considerável
     }
 
+    @Test
+    @DisplayName("Deve incluir o kid no header do token quando configurado")
+    void deveIncluirKidNoHeaderQuandoConfigurado() {
+        // Given
+        ReflectionTestUtils.setField(tokenService, "keyId", "2025-01");
+        User user = new User();
+        user.setId("user-123");
+        user.setName("João Silva");
+        user.setEmail("joao@clinic.com");
+        user.setContact("+55 11999887766");
+        user.setRole(UserRole.PROFESSIONAL);
+
+        // When
+        String token = tokenService.generateToken(user);
+
+        // Then
+        assertEquals("2025-01", JWT.decode(token).getKeyId());
+        assertEquals("user-123", tokenService.validateToken(token));
+    }
+
     @Test
     @DisplayName("Deve lançar exceção ao gerar token com usuário nulo")
     void deveLancarExcecaoAoGerarTokenComUsuarioNulo() {